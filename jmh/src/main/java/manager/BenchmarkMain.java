@@ -0,0 +1,21 @@
+package manager;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// JMH 실행 진입점: 일반 JMH 명령줄 옵션을 그대로 받고 GC 프로파일러(gc.alloc.rate.norm = 연산당 할당 바이트)를 항상 추가
+//
+// 사용법: java -jar jmh/target/benchmarks.jar [JMH 옵션] [벤치마크 이름 정규식]
+//   예) java -jar jmh/target/benchmarks.jar CollisionBenchmark -p map="Map 1.png"
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
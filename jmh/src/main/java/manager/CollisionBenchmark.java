@@ -0,0 +1,71 @@
+package manager;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// MapManager 충돌 검사 벤치마크: 전체 checkCollisions와 개별 검사 메서드를 게임 중반 상태에서 측정
+// 틱을 진행하지 않고 같은 프레임에서 반복 호출하므로 첫 호출 이후에는 위치 보정이 더 일어나지 않는 상태의 검사 비용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CollisionBenchmark {
+
+    @Benchmark
+    public int checkCollisions(SimulationState state) {
+        state.mapManager.checkCollisions(null);
+        return state.mapManager.getTickEvents().size();
+    }
+
+    @Benchmark
+    public int bottomCollisions(SimulationState state) {
+        state.contact.reset(state.player, 1);
+        state.mapManager.checkBottomCollisions(state.contact);
+        return state.contact.events.size();
+    }
+
+    @Benchmark
+    public int topCollisions(SimulationState state) {
+        state.contact.reset(state.player, 1);
+        state.mapManager.checkTopCollisions(state.contact);
+        return state.contact.events.size();
+    }
+
+    @Benchmark
+    public int horizontalCollision(SimulationState state) {
+        state.contact.reset(state.player, 1);
+        state.mapManager.checkMarioHorizontalCollision(state.contact, null);
+        return state.contact.events.size();
+    }
+
+    @Benchmark
+    public int prizeContact(SimulationState state) {
+        state.contact.reset(state.player, 1);
+        state.mapManager.checkPrizeContact(state.contact);
+        return state.contact.events.size();
+    }
+
+    // 모든 적 묶음의 적-블록 충돌
+    @Benchmark
+    public int enemyCollisions(SimulationState state) {
+        int enemies = state.gameMap.getEnemies().size();
+        int chunks = (enemies + MapManager.ENEMY_CHUNK - 1) / MapManager.ENEMY_CHUNK;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            state.mapManager.checkEnemyCollisions(chunk);
+        }
+        return enemies;
+    }
+
+    @Benchmark
+    public int prizeCollision(SimulationState state) {
+        state.mapManager.checkPrizeCollision();
+        return state.gameMap.getRevealedPrizes().size();
+    }
+
+    @Benchmark
+    public int fireballContact(SimulationState state) {
+        state.mapManager.checkFireballContact(null);
+        return state.gameMap.getFireballs().size();
+    }
+}
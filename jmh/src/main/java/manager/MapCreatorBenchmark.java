@@ -0,0 +1,37 @@
+package manager;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import model.Map;
+import org.openjdk.jmh.annotations.*;
+import view.ImageLoader;
+
+// MapCreator.createMap 벤치마크: 미리 읽어 둔 맵 이미지에서 오브젝트 생성까지 (이미지 파일 디코딩 제외)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class MapCreatorBenchmark {
+
+    @Param({"Map 1.png", "Map 2.png", "Map 1.png x4", "Map 1.png x16"})
+    public String map;
+
+    private MapCreator mapCreator;
+    private BufferedImage mapImage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimulationState.silenceStandardOutput();
+        ImageLoader loader = new ImageLoader();
+        mapCreator = new MapCreator(loader, new Random(1));
+        mapImage = SimulationState.loadMapImage(loader, map);
+    }
+
+    @Benchmark
+    public Map createMap() {
+        return mapCreator.createMap(mapImage, map, 400);
+    }
+}
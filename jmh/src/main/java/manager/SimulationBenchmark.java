@@ -0,0 +1,77 @@
+package manager;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import model.EntityList;
+import model.brick.Brick;
+import model.enemy.Enemy;
+import network.protocol.GameStateMessage;
+import org.openjdk.jmh.annotations.*;
+
+// 시뮬레이션 핫패스 벤치마크: 오브젝트 위치 업데이트, 블록 목록 조회, 스냅샷 수집, 서버 1틱 전체
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SimulationBenchmark {
+
+    // 플레이어 한 명의 GameObject.updateLocation (매번 같은 위치/속도에서 시작하도록 되돌림)
+    @Benchmark
+    public double playerUpdateLocation(SimulationState state, PlayerPosition position) {
+        position.restore(state);
+        state.player.updateLocation();
+        return state.player.getY();
+    }
+
+    // 맵의 모든 적 updateLocation
+    @Benchmark
+    public int enemiesUpdateLocation(SimulationState state) {
+        EntityList<Enemy> enemies = state.gameMap.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).updateLocation();
+        }
+        return enemies.size();
+    }
+
+    @Benchmark
+    public ArrayList<Brick> getAllBricks(SimulationState state) {
+        return state.gameMap.getAllBricks();
+    }
+
+    @Benchmark
+    public GameStateMessage collectGameState(SimulationState state) {
+        return state.mapManager.collectGameState(null);
+    }
+
+    // RoomSimulation 1틱 (입력 → 물리 → 충돌), 스냅샷 제외
+    @Benchmark
+    public long serverTick(SimulationState state) {
+        MapManager mapManager = state.mapManager;
+        SimulationState.botTick(mapManager, state.players, mapManager.getTick());
+        mapManager.updateLocations();
+        mapManager.checkCollisions(null);
+        return mapManager.getTick();
+    }
+
+    // 준비가 끝난 시점의 플레이어 위치/속도
+    @State(Scope.Thread)
+    public static class PlayerPosition {
+        double x, y, velX, velY;
+
+        @Setup(Level.Iteration)
+        public void save(SimulationState state) {
+            x = state.player.getX();
+            y = state.player.getY();
+            velX = state.player.getVelX();
+            velY = state.player.getVelY();
+        }
+
+        void restore(SimulationState state) {
+            state.player.setX(x);
+            state.player.setY(y);
+            state.player.setVelX(velX);
+            state.player.setVelY(velY);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package manager;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import model.Map;
+import model.hero.Mario;
+import org.openjdk.jmh.annotations.*;
+import view.ImageLoader;
+
+// 벤치마크 공통 상태: 맵을 만들고 봇 플레이어로 일정 틱을 진행해 적/아이템/파이어볼이 있는 게임 중반 상태를 준비
+// 측정 중 오브젝트 상태가 바뀌므로 반복(iteration)마다 새로 준비
+@State(Scope.Thread)
+public class SimulationState {
+
+    static final int PREPARE_TICKS = 600; // 준비 단계에서 진행할 틱 수 (10초)
+
+    // "Map 1.png", "Map 2.png" = 실제 맵, "Map 1.png x4" = Map 1을 가로로 4번 이어 붙인 합성 맵
+    @Param({"Map 1.png", "Map 2.png", "Map 1.png x4", "Map 1.png x16"})
+    public String map;
+
+    @Param({"4"})
+    public int players;
+
+    MapManager mapManager;
+    Map gameMap;
+    Mario player;
+    PlayerContacts contact;
+
+    @Setup(Level.Trial)
+    public void silenceGameLogs() {
+        silenceStandardOutput();
+    }
+
+    @Setup(Level.Iteration)
+    public void prepare() {
+        ImageLoader loader = new ImageLoader();
+        mapManager = new MapManager(1);
+        if (!mapManager.createMap(loader, loadMapImage(loader, map), map)) {
+            throw new IllegalStateException("Failed to create map: " + map);
+        }
+        for (int id = 1; id <= players; id++) {
+            mapManager.getPlayer(id);
+        }
+        for (int tick = 0; tick < PREPARE_TICKS; tick++) {
+            botTick(mapManager, players, tick);
+            mapManager.updateLocations();
+            mapManager.checkCollisions(null);
+        }
+
+        gameMap = mapManager.getMap();
+        player = mapManager.getPlayer(1);
+        contact = new PlayerContacts();
+    }
+
+    // 봇 입력: 오른쪽으로 달리며 플레이어마다 다른 주기로 점프, 가끔 파이어볼 발사
+    static void botTick(MapManager mapManager, int players, long tick) {
+        for (int id = 1; id <= players; id++) {
+            mapManager.processInput(id, 39, true, null);
+            if ((tick + id * 17) % 90 == 0) {
+                mapManager.processInput(id, 38, true, null);
+            }
+            if ((tick + id * 13) % 150 == 0) {
+                mapManager.processInput(id, 32, true, null);
+            }
+        }
+    }
+
+    // 맵 이름 뒤에 " xN"이 붙으면 원본을 가로로 N번 이어 붙인 합성 맵 이미지
+    static BufferedImage loadMapImage(ImageLoader loader, String spec) {
+        int scale = 1;
+        String name = spec;
+        int split = spec.lastIndexOf(" x");
+        if (split > 0) {
+            name = spec.substring(0, split);
+            scale = Integer.parseInt(spec.substring(split + 2));
+        }
+
+        BufferedImage source = loader.loadImage("/maps/" + name);
+        if (source == null) {
+            throw new IllegalStateException("Map image not found: " + name);
+        }
+        return scale > 1 ? tile(source, scale) : source;
+    }
+
+    // 원본을 가로로 이어 붙임 (마리오 시작 위치와 깃발은 첫 번째 사본에만 남김)
+    static BufferedImage tile(BufferedImage source, int copies) {
+        int mario = new Color(160, 160, 160).getRGB();
+        int end = new Color(160, 0, 160).getRGB();
+        int empty = new Color(0, 0, 0).getRGB();
+
+        int width = source.getWidth(), height = source.getHeight();
+        BufferedImage tiled = new BufferedImage(width * copies, height, BufferedImage.TYPE_INT_RGB);
+        for (int copy = 0; copy < copies; copy++) {
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    int pixel = source.getRGB(x, y);
+                    if (copy > 0 && (pixel == mario || pixel == end)) {
+                        pixel = empty;
+                    }
+                    tiled.setRGB(copy * width + x, y, pixel);
+                }
+            }
+        }
+        return tiled;
+    }
+
+    // 게임 코드의 System.out 로그가 측정 중 출력되지 않도록 포크된 JVM의 표준 출력을 버림 (JMH 결과는 별도 채널로 전달)
+    static void silenceStandardOutput() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
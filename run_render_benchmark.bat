@@ -0,0 +1,14 @@
+@echo off
+chcp 65001 > nul
+echo ========================================
+echo   Super Mario Bros - Render Benchmark
+echo ========================================
+echo.
+javac -encoding UTF-8 -d . -sourcepath src src/benchmark/RenderBenchmark.java
+if %ERRORLEVEL% NEQ 0 (
+    echo Benchmark compilation failed!
+    pause
+    exit /b 1
+)
+java -Djava.awt.headless=true -cp ".;src" benchmark.RenderBenchmark %*
+pause
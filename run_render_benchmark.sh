@@ -0,0 +1,6 @@
+#!/bin/sh
+# Super Mario Bros - Render Benchmark (화면 없는 Linux 서버용)
+set -e
+cd "$(dirname "$0")"
+javac -encoding UTF-8 -d . -sourcepath src src/benchmark/RenderBenchmark.java
+java -Djava.awt.headless=true -cp ".:src" benchmark.RenderBenchmark "$@"
@@ -0,0 +1,126 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import server.RoomSimulation;
+
+// 헤드리스 봇 클라이언트: 방에 참가해 20Hz로 입력을 보내고, 1ms 간격으로 최신 스냅샷을 확인해
+// 입력 제출 → 그 입력이 반영된 스냅샷을 받기까지의 지연과 스냅샷 수신 간격을 기록 (스레드 하나당 봇 하나)
+class BotClient implements Runnable {
+
+    enum Pattern { SCRIPTED, RANDOM }
+
+    private static final long INPUT_INTERVAL_NANOS = 1_000_000_000L / 20; // 입력 전송 주기 (클라이언트 키 입력 빈도와 비슷하게)
+    private static final int[] RANDOM_KEYS = {37, 38, 39, 32}; // 왼쪽, 점프, 오른쪽, 발사
+
+    private final RoomSimulation room;
+    private final Pattern pattern;
+    private final Random random;
+    private RoomSimulation.Seat seat; // 참가한 자리 (방이 가득 차면 null)
+
+    private volatile boolean running = true;
+    private volatile boolean measuring; // false인 동안(워밍업)은 기록하지 않음
+
+    // 봇 스레드에서만 기록, 스레드 종료 후 읽음
+    private long[] latencies = new long[256];
+    private int latencyCount;
+    private long[] intervals = new long[256];
+    private int intervalCount;
+
+    BotClient(RoomSimulation room, Pattern pattern, long seed) {
+        this.room = room;
+        this.pattern = pattern;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void run() {
+        seat = room.join();
+        if (seat == null) {
+            return;
+        }
+
+        long nextInput = System.nanoTime();
+        long pendingSubmit = 0; // 반영을 기다리는 가장 오래된 입력의 제출 시각 (0이면 없음)
+        long step = 0;
+        RoomSimulation.Snapshot lastSeen = null;
+        long lastSeenAt = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            if (now >= nextInput) {
+                sendInput(step++);
+                if (pendingSubmit == 0) {
+                    pendingSubmit = now;
+                }
+                nextInput = Math.max(nextInput + INPUT_INTERVAL_NANOS, now);
+            }
+
+            RoomSimulation.Snapshot snapshot = room.getLatestSnapshot();
+            if (snapshot != null && snapshot != lastSeen) {
+                if (lastSeen != null && measuring) {
+                    intervals = add(intervals, intervalCount++, now - lastSeenAt);
+                }
+                lastSeen = snapshot;
+                lastSeenAt = now;
+                if (pendingSubmit != 0 && snapshot.inputCutoffNanos >= pendingSubmit) {
+                    if (measuring) {
+                        latencies = add(latencies, latencyCount++, now - pendingSubmit);
+                    }
+                    pendingSubmit = 0;
+                }
+            }
+
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        room.leave(seat);
+    }
+
+    // SCRIPTED: 오른쪽으로 달리며 봇마다 다른 주기로 점프/발사, RANDOM: 임의의 키를 임의로 누르거나 뗌
+    private void sendInput(long step) {
+        if (pattern == Pattern.RANDOM) {
+            room.submitInput(seat, RANDOM_KEYS[random.nextInt(RANDOM_KEYS.length)], random.nextInt(4) != 0);
+            return;
+        }
+        int playerId = seat.playerId;
+        room.submitInput(seat, 39, true);
+        if ((step + playerId * 7) % 30 == 0) {
+            room.submitInput(seat, 38, true);
+        }
+        if ((step + playerId * 11) % 45 == 0) {
+            room.submitInput(seat, 32, true);
+        }
+    }
+
+    void startMeasuring() {
+        measuring = true;
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    boolean isJoined() {
+        return seat != null;
+    }
+
+    long[] getLatencies() {
+        return Arrays.copyOf(latencies, latencyCount);
+    }
+
+    long[] getIntervals() {
+        return Arrays.copyOf(intervals, intervalCount);
+    }
+
+    private static long[] add(long[] values, int index, long value) {
+        if (index == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[index] = value;
+        return values;
+    }
+}
@@ -0,0 +1,251 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import manager.MapManager;
+import metrics.LatencyHistogram;
+import metrics.TickProfiler;
+import server.RoomRegistry;
+import server.RoomSimulation;
+
+// 봇 부하 테스트: 한 JVM에서 헤드리스 봇 수백 개를 방에 나눠 넣고 입력 → 스냅샷 지연과 스냅샷 수신 지터 측정
+// 봇은 Java 21 이상이면 가상 스레드, 아니면 데몬 플랫폼 스레드에서 실행
+//
+// 사용법: java -Djava.awt.headless=true -cp ".:src" benchmark.BotLoadBenchmark [옵션]
+//   --map "Map 1.png"    방마다 사용할 맵
+//   --bots N             전체 봇 수
+//   --bots-per-room N    방당 봇 수 (1~MapManager.MAX_PLAYERS)
+//   --pattern P          scripted(오른쪽 달리기 + 주기적 점프/발사) 또는 random
+//   --warmup N           측정 전 대기 시간 (초)
+//   --seconds N          측정 시간 (초)
+//   --threads N          방 틱 스레드 수 (기본: 코어 수)
+//   --platform-threads   가상 스레드를 쓸 수 있어도 플랫폼 스레드 사용
+//   --metrics-port N     실행 중 http://127.0.0.1:N/metrics 측정 엔드포인트 제공 (끝나면 틱 구간별 시간 출력)
+//   --max-p99 MS         입력 → 스냅샷 p99 지연이 넘으면 종료 코드 1
+public class BotLoadBenchmark {
+
+    private String mapName = "Map 1.png";
+    private int botCount = 200;
+    private int botsPerRoom = 16;
+    private BotClient.Pattern pattern = BotClient.Pattern.SCRIPTED;
+    private int warmupSeconds = 2;
+    private int seconds = 10;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private boolean platformThreads;
+    private int metricsPort = -1;
+    private double maxP99Millis = -1;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        BotLoadBenchmark benchmark = new BotLoadBenchmark();
+        benchmark.parseArgs(args);
+        System.exit(benchmark.run() ? 0 : 1);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--map": mapName = value; i++; break;
+                case "--bots": botCount = Integer.parseInt(value); i++; break;
+                case "--bots-per-room": botsPerRoom = Integer.parseInt(value); i++; break;
+                case "--pattern": pattern = BotClient.Pattern.valueOf(value.toUpperCase()); i++; break;
+                case "--warmup": warmupSeconds = Integer.parseInt(value); i++; break;
+                case "--seconds": seconds = Integer.parseInt(value); i++; break;
+                case "--threads": threads = Integer.parseInt(value); i++; break;
+                case "--platform-threads": platformThreads = true; break;
+                case "--metrics-port": metricsPort = Integer.parseInt(value); i++; break;
+                case "--max-p99": maxP99Millis = Double.parseDouble(value); i++; break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        botCount = Math.max(1, botCount);
+        botsPerRoom = Math.max(1, Math.min(MapManager.MAX_PLAYERS, botsPerRoom));
+    }
+
+    // 부하 테스트 실행, 임계값을 넘지 않으면 true
+    private boolean run() throws InterruptedException, java.io.IOException {
+        ThreadFactory factory = platformThreads ? null : virtualThreadFactory();
+        String threadKind = factory != null ? "virtual" : "platform";
+        if (factory == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            factory = runnable -> {
+                Thread thread = new Thread(runnable, "Bot-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+
+        int roomCount = (botCount + botsPerRoom - 1) / botsPerRoom;
+        System.out.println("[Bots] " + botCount + " bots (" + pattern.name().toLowerCase() + ") in " + roomCount
+                + " rooms on " + threadKind + " threads, " + threads + " tick threads");
+
+        RoomRegistry registry = new RoomRegistry(threads);
+        if (metricsPort >= 0) {
+            registry.startMetricsServer(metricsPort);
+        }
+        ArrayList<RoomSimulation> rooms = new ArrayList<>();
+        for (int r = 0; r < roomCount; r++) {
+            RoomSimulation room = registry.createRoom(mapName, r + 1);
+            if (room == null) {
+                registry.shutdown();
+                return false;
+            }
+            rooms.add(room);
+        }
+
+        ArrayList<BotClient> bots = new ArrayList<>();
+        ArrayList<Thread> botThreads = new ArrayList<>();
+        for (int b = 0; b < botCount; b++) {
+            BotClient bot = new BotClient(rooms.get(b / botsPerRoom), pattern, b + 1);
+            Thread thread = factory.newThread(bot);
+            bots.add(bot);
+            botThreads.add(thread);
+            thread.start();
+        }
+
+        Thread.sleep(warmupSeconds * 1000L);
+        long[] droppedBefore = new long[rooms.size()];
+        for (int r = 0; r < rooms.size(); r++) {
+            droppedBefore[r] = rooms.get(r).getDroppedTicks();
+        }
+        for (BotClient bot : bots) {
+            bot.startMeasuring();
+        }
+        if (metricsPort >= 0) {
+            takePhases(rooms); // 워밍업 구간의 틱 구간 기록은 버림
+        }
+        Thread.sleep(seconds * 1000L);
+
+        for (BotClient bot : bots) {
+            bot.stop();
+        }
+        for (Thread thread : botThreads) {
+            thread.join(1000);
+        }
+
+        long dropped = 0;
+        double minDilation = Double.MAX_VALUE;
+        for (int r = 0; r < rooms.size(); r++) {
+            dropped += rooms.get(r).getDroppedTicks() - droppedBefore[r];
+            minDilation = Math.min(minDilation, rooms.get(r).getTimeDilation());
+        }
+        if (metricsPort >= 0) {
+            printPhases(rooms);
+        }
+        registry.shutdown();
+
+        int joined = 0;
+        long[] latencies = new long[0];
+        long[] intervals = new long[0];
+        for (BotClient bot : bots) {
+            if (bot.isJoined()) {
+                joined++;
+            }
+            latencies = concat(latencies, bot.getLatencies());
+            intervals = concat(intervals, bot.getIntervals());
+        }
+        Arrays.sort(latencies);
+
+        double expectedInterval = 1000.0 * RoomSimulation.SNAPSHOT_INTERVAL / MapManager.TICKS_PER_SECOND;
+        double meanInterval = mean(intervals) / 1e6;
+        double p99 = percentile(latencies, 0.99);
+        System.out.println("========================================");
+        System.out.println("  Bot load (" + joined + "/" + botCount + " bots joined, " + seconds + " s)");
+        System.out.println("========================================");
+        System.out.printf("samples    : %d input->snapshot, %d snapshot intervals%n", latencies.length, intervals.length);
+        System.out.printf("latency    : mean %.2f  p50 %.2f  p90 %.2f  p99 %.2f  max %.2f ms%n",
+                mean(latencies) / 1e6, percentile(latencies, 0.50), percentile(latencies, 0.90), p99,
+                latencies.length > 0 ? latencies[latencies.length - 1] / 1e6 : 0);
+        System.out.printf("snapshots  : mean interval %.2f ms (expected %.2f), jitter (stddev) %.2f ms%n",
+                meanInterval, expectedInterval, stddev(intervals) / 1e6);
+        System.out.printf("rooms      : %d dropped ticks, min time dilation %.3f%n", dropped, minDilation);
+
+        if (maxP99Millis > 0 && p99 > maxP99Millis) {
+            System.out.printf("[Bots] FAIL: p99 latency %.2f ms > %.2f ms%n", p99, maxP99Millis);
+            return false;
+        }
+        return true;
+    }
+
+    private static void takePhases(ArrayList<RoomSimulation> rooms) {
+        for (RoomSimulation room : rooms) {
+            for (int phase = 0; phase < TickProfiler.getPhaseCount(); phase++) {
+                room.getProfiler().takeInterval(phase);
+            }
+        }
+    }
+
+    // 측정 구간(측정 중 엔드포인트 요청이 있었으면 마지막 요청 이후)의 틱 구간별 평균과 가장 느린 방의 p99 (마이크로초)
+    private static void printPhases(ArrayList<RoomSimulation> rooms) {
+        System.out.println("  phase                  mean us   worst p99 us");
+        for (int phase = 0; phase < TickProfiler.getPhaseCount(); phase++) {
+            long count = 0;
+            double total = 0;
+            long worstP99 = 0;
+            for (RoomSimulation room : rooms) {
+                LatencyHistogram histogram = room.getProfiler().takeInterval(phase);
+                count += histogram.getCount();
+                total += histogram.getTotal();
+                worstP99 = Math.max(worstP99, histogram.getPercentile(0.99));
+            }
+            if (count > 0) {
+                System.out.printf("  %-20s %9.1f %14.1f%n", TickProfiler.getPhaseName(phase), total / count / 1e3, worstP99 / 1e3);
+            }
+        }
+    }
+
+    // Thread.ofVirtual().factory() (Java 21+)를 리플렉션으로 생성, 지원하지 않으면 null
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "Bot-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static double mean(long[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double stddev(long[] values) {
+        if (values.length < 2) {
+            return 0;
+        }
+        double mean = mean(values);
+        double sum = 0;
+        for (long value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(sum / (values.length - 1));
+    }
+
+    // 정렬된 배열에서 백분위수 (ms)
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+}
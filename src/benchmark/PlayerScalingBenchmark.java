@@ -0,0 +1,111 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import manager.Camera;
+import manager.MapManager;
+import view.ImageLoader;
+
+// 플레이어 수 확장 벤치마크: 한 방의 플레이어 수를 늘려가며 서버 틱(입력, 물리, 충돌, 20Hz 스냅샷) 시간 측정
+//
+// 사용법: java -Djava.awt.headless=true -cp ".:src" benchmark.PlayerScalingBenchmark [옵션]
+//   --map "Map 1.png"    맵
+//   --counts 1,4,16,64   측정할 플레이어 수 목록
+//   --warmup N           측정 전 워밍업 틱 수
+//   --ticks N            측정 틱 수
+//   --seed N             맵 생성 난수 시드
+//   --parallel           충돌 검사를 ForkJoinPool 공용 풀에서 병렬 실행 (플레이어 8명 이상일 때)
+public class PlayerScalingBenchmark {
+
+    private static final int SNAPSHOT_INTERVAL = 3; // 서버 20Hz 전송과 동일
+
+    private String mapName = "Map 1.png";
+    private int[] counts = {1, 4, 8, 16, 32, 64};
+    private int warmupTicks = 1200;
+    private int measuredTicks = 3600;
+    private long seed = 1;
+    private boolean parallel;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        PlayerScalingBenchmark benchmark = new PlayerScalingBenchmark();
+        benchmark.parseArgs(args);
+        System.exit(benchmark.run() ? 0 : 1);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--map": mapName = value; i++; break;
+                case "--counts": counts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); i++; break;
+                case "--warmup": warmupTicks = Integer.parseInt(value); i++; break;
+                case "--ticks": measuredTicks = Integer.parseInt(value); i++; break;
+                case "--seed": seed = Long.parseLong(value); i++; break;
+                case "--parallel": parallel = true; break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    private boolean run() {
+        ImageLoader loader = new ImageLoader();
+        System.out.println("[Benchmark] collisions=" + (parallel ? "parallel (" + ForkJoinPool.getCommonPoolParallelism() + " workers)" : "sequential"));
+
+        System.out.println("========================================");
+        System.out.println("  players  mean tick   p99 tick  per player");
+        System.out.println("========================================");
+        for (int count : counts) {
+            count = Math.max(1, Math.min(MapManager.MAX_PLAYERS, count));
+            MapManager mapManager = new MapManager(seed);
+            if (!mapManager.createMap(loader, mapName)) {
+                System.err.println("[Benchmark] Failed to load map: " + mapName);
+                return false;
+            }
+            if (parallel) {
+                mapManager.setCollisionPool(ForkJoinPool.commonPool());
+            }
+            for (int id = 1; id <= count; id++) {
+                mapManager.getPlayer(id);
+            }
+
+            Camera camera = new Camera();
+            for (int tick = 0; tick < warmupTicks; tick++) {
+                tick(mapManager, camera, count, tick);
+            }
+
+            long[] tickNanos = new long[measuredTicks];
+            long total = 0;
+            for (int i = 0; i < measuredTicks; i++) {
+                long start = System.nanoTime();
+                tick(mapManager, camera, count, warmupTicks + i);
+                tickNanos[i] = System.nanoTime() - start;
+                total += tickNanos[i];
+            }
+
+            Arrays.sort(tickNanos);
+            double mean = total / 1e3 / measuredTicks;
+            System.out.printf("  %7d  %6.1f us  %6.1f us  %7.2f us%n", count, mean,
+                    tickNanos[Math.min(measuredTicks - 1, (int) Math.ceil(0.99 * measuredTicks) - 1)] / 1e3, mean / count);
+        }
+        return true;
+    }
+
+    // 서버 틱 1회: 플레이어는 오른쪽으로 달리며 플레이어마다 다른 주기로 점프
+    private static void tick(MapManager mapManager, Camera camera, int count, int tick) {
+        for (int id = 1; id <= count; id++) {
+            mapManager.processInput(id, 39, true, null);
+            if ((tick + id * 17) % 90 == 0) {
+                mapManager.processInput(id, 38, true, null);
+            }
+        }
+        mapManager.updateLocations();
+        mapManager.checkCollisions(null);
+        mapManager.updateCamera(camera);
+        if (tick % SNAPSHOT_INTERVAL == 0) {
+            mapManager.collectGameState(camera);
+        }
+    }
+}
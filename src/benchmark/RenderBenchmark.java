@@ -0,0 +1,243 @@
+package benchmark;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import manager.Camera;
+import manager.MapManager;
+import model.hero.Mario;
+import network.protocol.GameStateMessage;
+import view.ImageLoader;
+import view.UIManager;
+
+// 렌더링 벤치마크: 화면 없이(headless) UIManager/맵 그리기를 오프스크린 이미지에 반복 실행하고 프레임 시간과 할당량 측정
+//
+// 사용법: java -Djava.awt.headless=true -cp ".:src" benchmark.RenderBenchmark [옵션]
+//   --mode state|map     state = UIManager.drawGameFromState (클라이언트), map = Map.drawMap (싱글/서버)
+//   --map "Map 1.png"    시뮬레이션할 맵 (--replay 없을 때)
+//   --players N          시뮬레이션 플레이어 수 (1~MapManager.MAX_PLAYERS)
+//   --ticks N            시뮬레이션할 60Hz 틱 수 (스냅샷은 3틱마다 = 20Hz)
+//   --seed N             맵 생성 난수 시드 (같은 시드면 같은 시뮬레이션 결과)
+//   --record FILE        시뮬레이션한 스냅샷 시퀀스를 파일로 저장
+//   --replay FILE        저장된 스냅샷 시퀀스로 렌더링
+//   --warmup N           측정 전 워밍업 프레임 수
+//   --frames N           측정 프레임 수
+//   --max-p99 MS         p99 프레임 시간이 넘으면 종료 코드 1 (회귀 검출용)
+public class RenderBenchmark {
+
+    private static final int WIDTH = 1268, HEIGHT = 708; // GameEngine 창 크기
+    private static final int SNAPSHOT_INTERVAL = 3; // 60Hz 틱 중 3틱마다 스냅샷 (서버 20Hz 전송과 동일)
+
+    private String mode = "state";
+    private String mapName = "Map 1.png";
+    private int playerCount = 4;
+    private int ticks = 3600;
+    private long seed = 1;
+    private String recordFile, replayFile;
+    private int warmupFrames = 300;
+    private int measuredFrames = 2000;
+    private double maxP99Millis = -1;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        RenderBenchmark benchmark = new RenderBenchmark();
+        benchmark.parseArgs(args);
+        System.exit(benchmark.run() ? 0 : 1);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--mode": mode = value; i++; break;
+                case "--map": mapName = value; i++; break;
+                case "--players": playerCount = Integer.parseInt(value); i++; break;
+                case "--ticks": ticks = Integer.parseInt(value); i++; break;
+                case "--seed": seed = Long.parseLong(value); i++; break;
+                case "--record": recordFile = value; i++; break;
+                case "--replay": replayFile = value; i++; break;
+                case "--warmup": warmupFrames = Integer.parseInt(value); i++; break;
+                case "--frames": measuredFrames = Integer.parseInt(value); i++; break;
+                case "--max-p99": maxP99Millis = Double.parseDouble(value); i++; break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        playerCount = Math.max(1, Math.min(MapManager.MAX_PLAYERS, playerCount));
+    }
+
+    // 벤치마크 실행, 임계값을 넘지 않으면 true
+    private boolean run() throws Exception {
+        System.out.println("[Benchmark] headless=" + GraphicsEnvironment.isHeadless() + ", mode=" + mode);
+
+        ImageLoader loader = new ImageLoader();
+        MapManager mapManager = null;
+        Camera camera = new Camera();
+        ArrayList<GameStateMessage> states;
+
+        if (replayFile != null) {
+            states = readStates(new File(replayFile));
+            System.out.println("[Benchmark] Replaying " + states.size() + " snapshots from " + replayFile);
+        } else {
+            mapManager = new MapManager(seed);
+            if (!mapManager.createMap(loader, mapName)) {
+                System.err.println("[Benchmark] Failed to load map: " + mapName);
+                return false;
+            }
+            states = simulate(mapManager, camera);
+            System.out.println("[Benchmark] Simulated " + ticks + " ticks -> " + states.size() + " snapshots");
+        }
+        if (recordFile != null) {
+            writeStates(states, new File(recordFile));
+            System.out.println("[Benchmark] Recorded snapshots to " + recordFile);
+        }
+        if (states.isEmpty()) {
+            System.err.println("[Benchmark] No snapshots to render");
+            return false;
+        }
+
+        BufferedImage frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        FrameRenderer renderer;
+        if ("map".equals(mode)) {
+            if (mapManager == null) {
+                System.err.println("[Benchmark] --mode map needs a simulated map (cannot use --replay)");
+                return false;
+            }
+            renderer = mapRenderer(mapManager, camera);
+        } else {
+            renderer = stateRenderer(loader, states);
+        }
+
+        for (int i = 0; i < warmupFrames; i++) {
+            renderFrame(renderer, frame, i);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] frameNanos = new long[measuredFrames];
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredFrames; i++) {
+            long frameStart = System.nanoTime();
+            renderFrame(renderer, frame, warmupFrames + i);
+            frameNanos[i] = System.nanoTime() - frameStart;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(frameNanos);
+        double p99 = percentile(frameNanos, 0.99);
+        System.out.println("========================================");
+        System.out.println("  Render benchmark (" + mode + ", " + WIDTH + "x" + HEIGHT + ")");
+        System.out.println("========================================");
+        System.out.printf("frames     : %d (warmup %d)%n", measuredFrames, warmupFrames);
+        System.out.printf("mean       : %.3f ms%n", elapsed / 1e6 / measuredFrames);
+        System.out.printf("p50        : %.3f ms%n", percentile(frameNanos, 0.50));
+        System.out.printf("p90        : %.3f ms%n", percentile(frameNanos, 0.90));
+        System.out.printf("p99        : %.3f ms%n", p99);
+        System.out.printf("max        : %.3f ms%n", frameNanos[frameNanos.length - 1] / 1e6);
+        System.out.printf("alloc/frame: %d bytes%n", allocated / measuredFrames);
+
+        if (maxP99Millis > 0 && p99 > maxP99Millis) {
+            System.out.printf("[Benchmark] FAIL: p99 %.3f ms > %.3f ms%n", p99, maxP99Millis);
+            return false;
+        }
+        return true;
+    }
+
+    // 한 프레임 그리기 (paintComponent와 같이 Graphics를 매 프레임 새로 생성)
+    private void renderFrame(FrameRenderer renderer, BufferedImage frame, int index) {
+        Graphics2D g2 = frame.createGraphics();
+        renderer.render(g2, index);
+        g2.dispose();
+    }
+
+    private interface FrameRenderer {
+        void render(Graphics2D g2, int frameIndex);
+    }
+
+    // 클라이언트 경로: 스냅샷을 순서대로 돌려가며 UIManager로 그리기 (60fps 렌더, 20Hz 스냅샷)
+    private FrameRenderer stateRenderer(ImageLoader loader, ArrayList<GameStateMessage> states) {
+        UIManager ui = new UIManager(loader, WIDTH, HEIGHT);
+        ui.setSize(WIDTH, HEIGHT);
+        ui.loadAssets();
+        return (g2, frameIndex) -> {
+            GameStateMessage state = states.get((frameIndex / SNAPSHOT_INTERVAL) % states.size());
+            ui.drawGameFromState(g2, state, 1);
+        };
+    }
+
+    // 싱글/서버 경로: 시뮬레이션이 끝난 맵을 플레이어가 지나간 구간만큼 카메라를 옮겨가며 그리기
+    private FrameRenderer mapRenderer(MapManager mapManager, Camera camera) {
+        Mario[] players = mapManager.getAllPlayers();
+        long scrollRange = (long) camera.getX() + 1;
+        return (g2, frameIndex) -> {
+            int cameraX = (int) ((frameIndex * 5L) % scrollRange);
+            g2.translate(-cameraX, 0);
+            mapManager.drawMap(g2);
+            for (int i = 1; i < players.length; i++) {
+                if (players[i] != null) {
+                    players[i].draw(g2);
+                }
+            }
+            g2.translate(cameraX, 0);
+        };
+    }
+
+    // 서버 게임 루프와 같은 순서로 틱을 돌리며 20Hz 스냅샷 수집 (플레이어는 오른쪽으로 달리며 주기적으로 점프)
+    private ArrayList<GameStateMessage> simulate(MapManager mapManager, Camera camera) {
+        for (int id = 1; id <= playerCount; id++) {
+            mapManager.getPlayer(id);
+        }
+
+        ArrayList<GameStateMessage> states = new ArrayList<>();
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int id = 1; id <= playerCount; id++) {
+                mapManager.processInput(id, 39, true, null);
+                if ((tick + id * 17) % 90 == 0) {
+                    mapManager.processInput(id, 38, true, null);
+                }
+            }
+            mapManager.updateLocations();
+            mapManager.checkCollisions(null);
+            mapManager.updateCamera(camera);
+            if (tick % SNAPSHOT_INTERVAL == 0) {
+                states.add(mapManager.collectGameState(camera));
+            }
+        }
+        return states;
+    }
+
+    // 스냅샷 시퀀스 저장 (네트워크와 같은 Java 직렬화 형식)
+    private static void writeStates(ArrayList<GameStateMessage> states, File file) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(states.size());
+            for (GameStateMessage state : states) {
+                out.writeObject(state);
+                out.reset();
+            }
+        }
+    }
+
+    private static ArrayList<GameStateMessage> readStates(File file) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            int count = in.readInt();
+            ArrayList<GameStateMessage> states = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                states.add((GameStateMessage) in.readObject());
+            }
+            return states;
+        }
+    }
+
+    // 정렬된 배열에서 백분위수 (ms)
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+}
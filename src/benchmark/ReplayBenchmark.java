@@ -0,0 +1,294 @@
+package benchmark;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import manager.InputReplay;
+import manager.MapManager;
+import manager.ReplayPlayer;
+import view.ImageLoader;
+
+// 리플레이 벤치마크: 기록된 게임(입력 리플레이) 묶음을 sleep 없이 서버 틱 순서대로 재생하며 틱 시간과 할당량 측정
+// 틱마다 입력 적용 + updateLocations + checkCollisions, 3틱마다 collectGameState (RoomSimulation과 동일)
+// 결과는 JSON으로 출력해 배포 전 물리/충돌 경로의 틱 시간 회귀를 비교
+//
+// 사용법: java -Djava.awt.headless=true -cp ".:src" benchmark.ReplayBenchmark [옵션]
+//   --corpus PATH        리플레이 파일 또는 *.replay 파일이 있는 폴더 (기본 replays)
+//   --generate N         측정 전에 봇 리플레이 N개를 생성해 corpus 폴더에 저장 (기록된 게임이 없을 때)
+//   --players N          생성할 리플레이의 봇 수 (1~MapManager.MAX_PLAYERS)
+//   --ticks N            생성할 리플레이의 길이 (60Hz 틱)
+//   --warmup N           측정 전 전체 묶음 재생 횟수
+//   --iterations N       측정할 전체 묶음 재생 횟수
+//   --out FILE           JSON 결과 파일 (게임 로그가 표준 출력에 섞이므로 파일로 저장)
+//   --max-p99 MS         전체 p99 틱 시간이 넘으면 종료 코드 1 (회귀 검출용)
+public class ReplayBenchmark {
+
+    private static final int SNAPSHOT_INTERVAL = 3; // 3틱마다 스냅샷 (서버 20Hz 전송과 동일)
+
+    private String corpus = "replays";
+    private int generateCount;
+    private int generatePlayers = 4;
+    private int generateTicks = 3600;
+    private int warmupPasses = 1;
+    private int iterations = 3;
+    private String outFile = "replay-benchmark.json";
+    private double maxP99Millis = -1;
+
+    // 리플레이 하나의 측정 결과 (측정 반복 전체 합산)
+    private static final class Result {
+        final File file;
+        final InputReplay replay;
+        long[] tickNanos = new long[0];
+        long elapsedNanos, allocatedBytes;
+        boolean stateMatches = true;
+
+        Result(File file, InputReplay replay) {
+            this.file = file;
+            this.replay = replay;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        ReplayBenchmark benchmark = new ReplayBenchmark();
+        benchmark.parseArgs(args);
+        System.exit(benchmark.run() ? 0 : 1);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--corpus": corpus = value; i++; break;
+                case "--generate": generateCount = Integer.parseInt(value); i++; break;
+                case "--players": generatePlayers = Integer.parseInt(value); i++; break;
+                case "--ticks": generateTicks = Integer.parseInt(value); i++; break;
+                case "--warmup": warmupPasses = Integer.parseInt(value); i++; break;
+                case "--iterations": iterations = Integer.parseInt(value); i++; break;
+                case "--out": outFile = value; i++; break;
+                case "--max-p99": maxP99Millis = Double.parseDouble(value); i++; break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        generatePlayers = Math.max(1, Math.min(MapManager.MAX_PLAYERS, generatePlayers));
+        iterations = Math.max(1, iterations);
+    }
+
+    // 벤치마크 실행, 상태 해시가 모두 일치하고 임계값을 넘지 않으면 true
+    private boolean run() throws Exception {
+        ImageLoader loader = new ImageLoader();
+        if (generateCount > 0) {
+            generateCorpus(loader, new File(corpus));
+        }
+
+        ArrayList<Result> results = new ArrayList<>();
+        for (File file : listReplays(new File(corpus))) {
+            results.add(new Result(file, InputReplay.read(file)));
+        }
+        if (results.isEmpty()) {
+            System.err.println("[ReplayBenchmark] No replays found in " + corpus + " (use --generate N)");
+            return false;
+        }
+        System.out.println("[ReplayBenchmark] " + results.size() + " replays, warmup " + warmupPasses + ", iterations " + iterations);
+
+        for (int pass = 0; pass < warmupPasses; pass++) {
+            for (Result result : results) {
+                if (!replay(loader, result, false)) {
+                    return false;
+                }
+            }
+        }
+        for (int pass = 0; pass < iterations; pass++) {
+            for (Result result : results) {
+                if (!replay(loader, result, true)) {
+                    return false;
+                }
+            }
+        }
+
+        long[] allTicks = new long[0];
+        long totalNanos = 0, totalAllocated = 0;
+        boolean allMatch = true;
+        for (Result result : results) {
+            allTicks = concat(allTicks, result.tickNanos);
+            totalNanos += result.elapsedNanos;
+            totalAllocated += result.allocatedBytes;
+            allMatch &= result.stateMatches;
+        }
+        Arrays.sort(allTicks);
+        double p99 = percentile(allTicks, 0.99);
+
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(outFile), "UTF-8")) {
+            out.write(toJson(results, allTicks, totalNanos, totalAllocated));
+        }
+        System.out.println("========================================");
+        System.out.println("  Replay benchmark (" + results.size() + " replays x " + iterations + ")");
+        System.out.println("========================================");
+        System.out.printf("ticks      : %d%n", allTicks.length);
+        System.out.printf("ticks/s    : %.0f%n", allTicks.length / Math.max(totalNanos / 1e9, 1e-9));
+        System.out.printf("p50        : %.3f ms%n", percentile(allTicks, 0.50));
+        System.out.printf("p99        : %.3f ms%n", p99);
+        System.out.printf("alloc/tick : %d bytes%n", allTicks.length > 0 ? totalAllocated / allTicks.length : 0);
+        System.out.println("[ReplayBenchmark] Wrote results to " + outFile);
+
+        if (!allMatch) {
+            System.err.println("[ReplayBenchmark] FAIL: replay state hash mismatch (simulation is no longer deterministic)");
+            return false;
+        }
+        if (maxP99Millis > 0 && p99 > maxP99Millis) {
+            System.err.printf("[ReplayBenchmark] FAIL: p99 %.3f ms > %.3f ms%n", p99, maxP99Millis);
+            return false;
+        }
+        return true;
+    }
+
+    // 리플레이 한 번 재생 (measure면 틱 시간/할당량을 결과에 누적)
+    private boolean replay(ImageLoader loader, Result result, boolean measure) {
+        ReplayPlayer player = new ReplayPlayer(result.replay);
+        if (!player.load(loader)) {
+            return false;
+        }
+        MapManager mapManager = player.getMapManager();
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] tickNanos = new long[(int) result.replay.getFinalTick()];
+        int count = 0;
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        while (player.hasNextTick()) {
+            long tickStart = System.nanoTime();
+            player.stepTick();
+            if (mapManager.getTick() % SNAPSHOT_INTERVAL == 0) {
+                mapManager.collectGameState(null);
+            }
+            tickNanos[count++] = System.nanoTime() - tickStart;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        player.finish();
+
+        if (measure) {
+            result.tickNanos = concat(result.tickNanos, Arrays.copyOf(tickNanos, count));
+            result.elapsedNanos += elapsed;
+            result.allocatedBytes += allocated;
+            result.stateMatches &= player.matchesRecordedState();
+        }
+        return true;
+    }
+
+    // 봇 리플레이 생성: 봇은 오른쪽으로 달리며 주기적으로 점프/정지/발사, 맵과 시드는 번갈아 사용
+    private void generateCorpus(ImageLoader loader, File directory) throws IOException {
+        directory.mkdirs();
+        String[] maps = {"Map 1.png", "Map 2.png"};
+        for (int n = 0; n < generateCount; n++) {
+            String mapName = maps[n % maps.length];
+            long seed = n + 1;
+            MapManager mapManager = new MapManager(seed);
+            if (!mapManager.createMap(loader, mapName)) {
+                throw new IOException("Failed to load map: " + mapName);
+            }
+            InputReplay replay = new InputReplay(mapName, seed);
+            mapManager.setInputRecorder(replay);
+
+            for (int id = 1; id <= generatePlayers; id++) {
+                mapManager.getPlayer(id);
+            }
+            for (int tick = 0; tick < generateTicks; tick++) {
+                for (int id = 1; id <= generatePlayers; id++) {
+                    mapManager.processInput(id, 39, true, null);
+                    if ((tick + id * 17) % 90 == 0) {
+                        mapManager.processInput(id, 38, true, null);
+                    }
+                    if ((tick + id * 31) % 240 == 0) {
+                        mapManager.processInput(id, 39, false, null);
+                    }
+                    if ((tick + id * 13) % 150 == 0) {
+                        mapManager.processInput(id, 32, true, null);
+                    }
+                }
+                mapManager.updateLocations();
+                mapManager.checkCollisions(null);
+            }
+            replay.finish(mapManager.getTick(), mapManager.computeStateHash());
+
+            File file = new File(directory, "generated-" + (n + 1) + ".replay");
+            replay.write(file);
+            System.out.println("[ReplayBenchmark] Generated " + file + " (" + replay.getEventCount() + " inputs)");
+        }
+    }
+
+    private static File[] listReplays(File path) {
+        if (path.isFile()) {
+            return new File[] {path};
+        }
+        File[] files = path.listFiles((dir, name) -> name.endsWith(".replay"));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files);
+        return files;
+    }
+
+    private String toJson(ArrayList<Result> results, long[] sortedTicks, long totalNanos, long totalAllocated) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"benchmark\": \"replay\",\n");
+        json.append("  \"warmup\": ").append(warmupPasses).append(",\n");
+        json.append("  \"iterations\": ").append(iterations).append(",\n");
+        json.append("  \"replays\": [\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            long[] sorted = result.tickNanos.clone();
+            Arrays.sort(sorted);
+            json.append("    {\"file\": \"").append(escape(result.file.getName())).append("\"");
+            json.append(", \"map\": \"").append(escape(result.replay.getMapName())).append("\"");
+            json.append(", \"seed\": ").append(result.replay.getSeed());
+            json.append(", \"inputs\": ").append(result.replay.getEventCount());
+            json.append(", \"stateHashMatch\": ").append(result.stateMatches);
+            appendStats(json, sorted, result.elapsedNanos, result.allocatedBytes);
+            json.append("}").append(i + 1 < results.size() ? "," : "").append("\n");
+        }
+        json.append("  ],\n");
+        json.append("  \"total\": {");
+        json.append("\"replays\": ").append(results.size());
+        appendStats(json, sortedTicks, totalNanos, totalAllocated);
+        json.append("}\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    // 틱 수, 초당 틱 수, p50/p99/max 틱 시간(ms), 틱당 할당 바이트
+    private static void appendStats(StringBuilder json, long[] sortedTicks, long elapsedNanos, long allocatedBytes) {
+        int ticks = sortedTicks.length;
+        json.append(", \"ticks\": ").append(ticks);
+        json.append(String.format(java.util.Locale.ROOT, ", \"ticksPerSecond\": %.1f", ticks / Math.max(elapsedNanos / 1e9, 1e-9)));
+        json.append(String.format(java.util.Locale.ROOT, ", \"p50Ms\": %.4f", percentile(sortedTicks, 0.50)));
+        json.append(String.format(java.util.Locale.ROOT, ", \"p99Ms\": %.4f", percentile(sortedTicks, 0.99)));
+        json.append(String.format(java.util.Locale.ROOT, ", \"maxMs\": %.4f", ticks > 0 ? sortedTicks[ticks - 1] / 1e6 : 0));
+        json.append(", \"allocBytesPerTick\": ").append(ticks > 0 ? allocatedBytes / ticks : 0);
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    // 정렬된 배열에서 백분위수 (ms)
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+}
@@ -0,0 +1,160 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import manager.MapManager;
+import server.RoomRegistry;
+import server.RoomSimulation;
+
+// 방 부하 테스트: 봇 플레이어로 채운 방을 단계적으로 늘려가며 모든 방이 60Hz를 유지하는 최대 방 수 측정
+//
+// 사용법: java -Djava.awt.headless=true -cp ".:src" benchmark.RoomSoakBenchmark [옵션]
+//   --map "Map 1.png"    방마다 사용할 맵
+//   --players N          방당 봇 수 (1~MapManager.MAX_PLAYERS)
+//   --start N            처음 방 수
+//   --step N             단계마다 추가할 방 수
+//   --max-rooms N        최대 방 수
+//   --seconds N          단계별 측정 시간 (초)
+//   --threads N          틱 스레드 수 (기본: 코어 수)
+//   --min-rate R         이 비율(실행 틱 / 기대 틱)보다 느린 방이 있으면 그 단계에서 중단 (기본 0.98)
+public class RoomSoakBenchmark {
+
+    private static final int BOT_INPUT_HZ = 20; // 봇 입력 전송 주기 (클라이언트 키 입력 빈도와 비슷하게)
+
+    private String mapName = "Map 1.png";
+    private int playersPerRoom = 4;
+    private int startRooms = 4;
+    private int step = 4;
+    private int maxRooms = 256;
+    private int seconds = 5;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private double minRate = 0.98;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        RoomSoakBenchmark benchmark = new RoomSoakBenchmark();
+        benchmark.parseArgs(args);
+        benchmark.run();
+        System.exit(0);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--map": mapName = value; i++; break;
+                case "--players": playersPerRoom = Integer.parseInt(value); i++; break;
+                case "--start": startRooms = Integer.parseInt(value); i++; break;
+                case "--step": step = Integer.parseInt(value); i++; break;
+                case "--max-rooms": maxRooms = Integer.parseInt(value); i++; break;
+                case "--seconds": seconds = Integer.parseInt(value); i++; break;
+                case "--threads": threads = Integer.parseInt(value); i++; break;
+                case "--min-rate": minRate = Double.parseDouble(value); i++; break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        playersPerRoom = Math.max(1, Math.min(MapManager.MAX_PLAYERS, playersPerRoom));
+        step = Math.max(1, step);
+    }
+
+    private void run() throws InterruptedException {
+        System.out.println("[Soak] cores=" + Runtime.getRuntime().availableProcessors() + ", threads=" + threads
+                + ", players/room=" + playersPerRoom + ", " + seconds + " s per step");
+
+        RoomRegistry registry = new RoomRegistry(threads);
+        ArrayList<RoomSimulation> rooms = new ArrayList<>();
+        ArrayList<RoomSimulation.Seat[]> botSeats = new ArrayList<>();
+
+        // 봇 입력: 별도 스레드에서 20Hz로 모든 방에 오른쪽 이동 + 주기적 점프 입력 (네트워크 스레드 역할)
+        ScheduledExecutorService bots = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SoakBots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long[] botTick = new long[1];
+        bots.scheduleAtFixedRate(() -> {
+            long tick = botTick[0]++;
+            synchronized (rooms) {
+                for (int r = 0; r < rooms.size(); r++) {
+                    for (RoomSimulation.Seat seat : botSeats.get(r)) {
+                        if (seat == null) {
+                            continue;
+                        }
+                        rooms.get(r).submitInput(seat, 39, true);
+                        if ((tick + seat.playerId * 7) % 30 == 0) {
+                            rooms.get(r).submitInput(seat, 38, true);
+                        }
+                    }
+                }
+            }
+        }, 0, 1000 / BOT_INPUT_HZ, TimeUnit.MILLISECONDS);
+
+        System.out.println("========================================");
+        System.out.println("  rooms  min rate  mean tick  max tick  dropped");
+        System.out.println("========================================");
+
+        int sustained = 0;
+        for (int target = startRooms; target <= maxRooms; target += step) {
+            while (rooms.size() < target) {
+                RoomSimulation room = registry.createRoom(mapName, rooms.size() + 1);
+                if (room == null) {
+                    bots.shutdownNow();
+                    registry.shutdown();
+                    return;
+                }
+                RoomSimulation.Seat[] seats = new RoomSimulation.Seat[playersPerRoom];
+                for (int p = 0; p < playersPerRoom; p++) {
+                    seats[p] = room.join();
+                }
+                synchronized (rooms) {
+                    rooms.add(room);
+                    botSeats.add(seats);
+                }
+            }
+
+            // 새로 만든 방이 안정될 때까지 1초 기다린 뒤 측정 구간 시작
+            Thread.sleep(1000);
+            long[] ticksBefore = new long[rooms.size()];
+            long[] droppedBefore = new long[rooms.size()];
+            long[] nanosBefore = new long[rooms.size()];
+            for (int r = 0; r < rooms.size(); r++) {
+                ticksBefore[r] = rooms.get(r).getExecutedTicks();
+                droppedBefore[r] = rooms.get(r).getDroppedTicks();
+                nanosBefore[r] = rooms.get(r).getTotalTickNanos();
+            }
+            long start = System.nanoTime();
+            Thread.sleep(seconds * 1000L);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            double minRoomRate = Double.MAX_VALUE;
+            long totalTicks = 0, totalNanos = 0, dropped = 0, maxTick = 0;
+            for (int r = 0; r < rooms.size(); r++) {
+                RoomSimulation room = rooms.get(r);
+                long ticks = room.getExecutedTicks() - ticksBefore[r];
+                minRoomRate = Math.min(minRoomRate, ticks / (elapsedSeconds * MapManager.TICKS_PER_SECOND));
+                totalTicks += ticks;
+                totalNanos += room.getTotalTickNanos() - nanosBefore[r];
+                dropped += room.getDroppedTicks() - droppedBefore[r];
+                maxTick = Math.max(maxTick, room.getMaxTickNanos());
+            }
+
+            System.out.printf("  %5d  %8.3f  %7.3f ms  %6.3f ms  %7d%n", rooms.size(), minRoomRate,
+                    totalTicks > 0 ? totalNanos / 1e6 / totalTicks : 0.0, maxTick / 1e6, dropped);
+            if (minRoomRate < minRate) {
+                break;
+            }
+            sustained = rooms.size();
+        }
+
+        System.out.println("========================================");
+        System.out.println("Sustained " + sustained + " rooms x " + playersPerRoom + " players at "
+                + MapManager.TICKS_PER_SECOND + " Hz (min rate " + minRate + ")");
+
+        bots.shutdownNow();
+        registry.shutdown();
+    }
+}
@@ -0,0 +1,90 @@
+package manager;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import view.ImageLoader;
+import view.UIManager;
+
+// 에셋 프리로더: 시작 시 이미지/폰트/사운드를 작은 스레드 풀에서 동시에 디코딩하고 에셋별 소요 시간 기록
+// 이미지는 ImageLoader 캐시에, 폰트는 UIManager 캐시에 들어가므로 이후 로드는 캐시 조회만 수행
+class AssetPreloader {
+
+    // 디코딩이 오래 걸리는 순서 (큰 이미지를 먼저 시작해야 전체 완료가 빨라짐)
+    private static final String[] IMAGES = {
+        "/background.png", "/sprite.png", "/mario-forms.png", "/brick-animation.png",
+        "/heart-icon.png", "/select-icon.png", "/start-screen.png", "/help-screen.png",
+        "/about-screen.png", "/game-over.png", "/maps/Map 1.png", "/maps/Map 2.png"
+    };
+    private static final int MAX_THREADS = 4;
+
+    private final int total = IMAGES.length + 2; // 이미지 + 폰트 + 사운드
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicLong taskNanos = new AtomicLong(); // 에셋별 소요 시간 합 (순차 로드했을 때의 추정치)
+    private long startTime;
+    private Future<SoundManager> soundManager;
+
+    // 모든 에셋 디코딩을 스레드 풀에 제출하고 바로 반환
+    void start(ImageLoader imageLoader) {
+        int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "AssetPreloader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        startTime = System.nanoTime();
+        System.out.println("[AssetPreloader] Loading " + total + " assets on " + threads + " threads");
+
+        // 오래 걸리는 사운드/폰트 디코딩을 먼저 제출
+        soundManager = executor.submit(() -> load("sounds", SoundManager::new));
+        executor.submit(() -> load("font", UIManager::loadGameFont));
+        for (String path : IMAGES) {
+            executor.submit(() -> load(path, () -> imageLoader.loadImage(path)));
+        }
+        executor.shutdown();
+    }
+
+    // 에셋 하나를 로드하고 소요 시간 기록 (실패해도 진행률은 올림)
+    private <T> T load(String name, Supplier<T> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            taskNanos.addAndGet(elapsed);
+            System.out.printf("[AssetPreloader] %-20s %6.1f ms (%s)%n", name, elapsed / 1e6, Thread.currentThread().getName());
+
+            if (completed.incrementAndGet() == total) {
+                System.out.printf("[AssetPreloader] All assets loaded in %.1f ms (%.1f ms if loaded one by one)%n",
+                        (System.nanoTime() - startTime) / 1e6, taskNanos.get() / 1e6);
+            }
+        }
+    }
+
+    boolean isDone() {
+        return completed.get() == total;
+    }
+
+    // 진행률 (0.0 ~ 1.0)
+    float getProgress() {
+        return (float) completed.get() / total;
+    }
+
+    // 로드가 끝난 SoundManager (로드 완료 전에 호출하면 끝날 때까지 대기, 실패하면 무음 SoundManager)
+    SoundManager getSoundManager() {
+        try {
+            return soundManager.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("[AssetPreloader] Sound loading failed, continuing without sound: " + e.getCause());
+        }
+        return SoundManager.silent();
+    }
+}
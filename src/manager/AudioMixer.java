@@ -0,0 +1,164 @@
+package manager;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+
+// 소프트웨어 믹서: 고정 개수의 보이스를 하나의 SourceDataLine으로 섞어서 출력 (라인은 한 번만 열고 재사용)
+// 재생 요청은 락 없는 큐로 받아 믹서 스레드에서만 처리하므로 게임 스레드는 오디오 장치를 기다리지 않음
+class AudioMixer implements Runnable {
+
+    static final AudioFormat FORMAT = new AudioFormat(22050f, 16, 1, true, false); // 효과음 WAV와 같은 포맷
+    private static final int MAX_VOICES = 8; // 동시에 재생 가능한 효과음 수
+    private static final int BLOCK_FRAMES = 256; // 한 번에 믹싱하는 샘플 수 (약 11.6ms)
+    private static final int LINE_BLOCKS = 4; // 라인 버퍼 크기 (블록 단위, 지연 약 46ms)
+    private static final long DEDUP_NANOS = 1_000_000_000L / 60; // 같은 효과음은 한 프레임(60Hz) 안에 한 번만 시작
+
+    // 보이스: 재생 중인 효과음 하나의 샘플과 재생 위치
+    private static class Voice {
+        short[] samples; // null이면 비어 있음
+        int position;
+        long startOrder; // 재생 시작 순서 (보이스 스틸링 시 가장 오래된 것 선택)
+    }
+
+    private final ConcurrentLinkedQueue<SoundEffect> commands = new ConcurrentLinkedQueue<>(); // 게임 스레드 → 믹서 스레드
+    private final long[] lastStartTime = new long[SoundEffect.values().length]; // 효과음별 마지막 시작 시각 (중복 제거용)
+    private final SoundBank soundBank;
+    private final Voice[] voices = new Voice[MAX_VOICES]; // 믹서 스레드 전용
+    private final int[] mixBuffer = new int[BLOCK_FRAMES];
+    private final byte[] outputBuffer = new byte[BLOCK_FRAMES * 2];
+    private long playCount;
+    private volatile MusicStream music; // 배경음악 (없으면 null)
+
+    private SourceDataLine line;
+    private Thread thread;
+    private volatile boolean running;
+
+    AudioMixer(SoundBank soundBank) {
+        this.soundBank = soundBank;
+        for (int i = 0; i < voices.length; i++) {
+            voices[i] = new Voice();
+        }
+    }
+
+    // 출력 라인을 열고 믹서 스레드 시작 (오디오 장치가 없으면 false, 이후 재생 요청은 무시됨)
+    boolean start() {
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, outputBuffer.length * LINE_BLOCKS);
+            line.start();
+        } catch (Exception e) {
+            System.err.println("[AudioMixer] No audio output available: " + e.getMessage());
+            line = null;
+            return false;
+        }
+
+        running = true;
+        thread = new Thread(this, "AudioMixer");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    // 배경음악 스트림 연결 (믹서 스레드가 매 블록마다 효과음과 함께 섞음)
+    void setMusic(MusicStream music) {
+        this.music = music;
+    }
+
+    void close() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (line != null) {
+            line.stop();
+            line.close();
+        }
+    }
+
+    // 효과음 재생 요청 (어느 스레드에서든 호출 가능, 큐에 넣고 바로 반환)
+    void play(SoundEffect effect) {
+        if (running) {
+            commands.offer(effect);
+        }
+    }
+
+    // 믹서 스레드: 블록 단위로 섞어서 라인에 쓰기 (write가 블로킹되므로 장치 속도에 맞춰 진행)
+    @Override
+    public void run() {
+        while (running) {
+            drainCommands();
+            mix();
+            line.write(outputBuffer, 0, outputBuffer.length);
+        }
+    }
+
+    // 쌓인 재생 요청 처리: 한 프레임 안에 반복된 같은 효과음은 한 번만 시작
+    private void drainCommands() {
+        long now = System.nanoTime();
+        SoundEffect effect;
+        while ((effect = commands.poll()) != null) {
+            int index = effect.ordinal();
+            if (lastStartTime[index] != 0 && now - lastStartTime[index] < DEDUP_NANOS) {
+                continue;
+            }
+            lastStartTime[index] = now;
+            startVoice(soundBank.get(effect));
+        }
+    }
+
+    // 빈 보이스가 없으면 가장 오래 재생 중인 보이스를 빼앗아 사용
+    private void startVoice(short[] samples) {
+        if (samples == null) {
+            return;
+        }
+
+        Voice target = null;
+        for (Voice voice : voices) {
+            if (voice.samples == null) {
+                target = voice;
+                break;
+            }
+            if (target == null || voice.startOrder < target.startOrder) {
+                target = voice;
+            }
+        }
+
+        target.samples = samples;
+        target.position = 0;
+        target.startOrder = playCount++;
+    }
+
+    // 활성 보이스와 배경음악을 합산해 16비트로 클리핑 후 outputBuffer에 기록
+    private void mix() {
+        java.util.Arrays.fill(mixBuffer, 0);
+
+        for (Voice voice : voices) {
+            short[] samples = voice.samples;
+            if (samples == null) {
+                continue;
+            }
+
+            int count = Math.min(BLOCK_FRAMES, samples.length - voice.position);
+            for (int i = 0; i < count; i++) {
+                mixBuffer[i] += samples[voice.position + i];
+            }
+            voice.position += count;
+            if (voice.position >= samples.length) {
+                voice.samples = null;
+            }
+        }
+
+        MusicStream current = music;
+        if (current != null) {
+            current.mixInto(mixBuffer, BLOCK_FRAMES);
+        }
+
+        for (int i = 0; i < BLOCK_FRAMES; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            outputBuffer[i * 2] = (byte) sample;
+            outputBuffer[i * 2 + 1] = (byte) (sample >> 8);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package manager;
 
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.swing.*;
 import model.GameRecord;
 import model.hero.Mario;
@@ -17,22 +20,32 @@ import view.UIManager;
 public class GameEngine implements Runnable {
 
     private final static int WIDTH = 1268, HEIGHT = 708;
+    private final static double TICKS_PER_SECOND = 60.0;
+    private final static int TARGET_FPS = 60; // 게임 중 렌더 상한
+    private final static int IDLE_FPS = 15; // 메뉴/비활성 창일 때 렌더 상한
 
     private MapManager mapManager;
     private UIManager uiManager;
-    private SoundManager soundManager;
-    private GameStatus gameStatus;
+    private volatile SoundManager soundManager; // 에셋 로딩이 끝나면 설정
+    private AssetPreloader assetPreloader;
+    private long launchTime; // init() 시작 시각 (시작 시간 측정용)
+    private volatile GameStatus gameStatus;
     private boolean isRunning;
     private Camera camera;
     private ImageLoader imageLoader;
     private Thread thread;
+    private TickScheduler scheduler;
+    private volatile boolean windowFocused = true;
     private StartScreenSelection startScreenSelection = StartScreenSelection.CREATE_ROOM;
     private int selectedMap = 0;
     private RankingManager rankingManager;
     private String playerName = "Mario" + (int)(Math.random() * 1000);
     private long gameStartTime;
     private NetworkManager networkManager;
-    private int myPlayerId = 1;
+    private volatile int myPlayerId = 1;
+    // 네트워크 스레드 → 로직/렌더 스레드 스냅샷 전달 (수신된 GameStateMessage는 이후 수정되지 않음)
+    private final AtomicReference<GameStateMessage> latestGameState = new AtomicReference<>();
+    private GameStateMessage appliedGameState; // 로직 스레드가 마지막으로 반영한 스냅샷
 
     private GameEngine() {
         this.networkManager = new NetworkManager();
@@ -45,13 +58,17 @@ public class GameEngine implements Runnable {
     }
 
     // 게임 시스템 초기화 및 JFrame 생성
+    // 창은 바로 띄우고 (로딩 화면) 이미지/폰트/사운드는 AssetPreloader가 백그라운드에서 동시에 로드
     private void init() {
+        launchTime = System.nanoTime();
         imageLoader = new ImageLoader();
+        assetPreloader = new AssetPreloader();
+        assetPreloader.start(imageLoader);
+
         InputManager inputManager = new InputManager(this);
-        gameStatus = GameStatus.START_SCREEN;
+        gameStatus = GameStatus.LOADING;
         camera = new Camera();
         uiManager = new UIManager(this, WIDTH, HEIGHT);
-        soundManager = new SoundManager();
         mapManager = new MapManager();
         rankingManager = new RankingManager();
 
@@ -65,7 +82,19 @@ public class GameEngine implements Runnable {
         frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         frame.setResizable(false);
         frame.setLocationRelativeTo(null);
+        frame.addWindowFocusListener(new WindowAdapter() {
+            @Override
+            public void windowGainedFocus(WindowEvent e) {
+                windowFocused = true;
+            }
+
+            @Override
+            public void windowLostFocus(WindowEvent e) {
+                windowFocused = false;
+            }
+        });
         frame.setVisible(true);
+        System.out.printf("[GAME] Window shown %.1f ms after launch%n", (System.nanoTime() - launchTime) / 1e6);
         
         uiManager.requestFocusInWindow();
 
@@ -78,12 +107,14 @@ public class GameEngine implements Runnable {
             return;
 
         isRunning = true;
+        scheduler = new TickScheduler(TICKS_PER_SECOND);
         thread = new Thread(this);
         thread.start();
     }
 
     private void reset(){
         resetCamera();
+        uiManager.resetOverlay();
         setGameStatus(GameStatus.START_SCREEN);
     }
 
@@ -93,47 +124,61 @@ public class GameEngine implements Runnable {
     }
 
     // 60Hz 게임 루프 (클라이언트는 렌더링만 수행, 서버가 게임 로직 처리)
+    // 로직은 고정 타임스텝으로 누산하고, 렌더는 FPS 상한까지 대기하여 CPU를 점유하지 않음
     @Override
     public void run() {
-        long lastTime = System.nanoTime();
-        double amountOfTicks = 60.0;
-        double ns = 1000000000 / amountOfTicks;
-        double delta = 0;
-        long timer = System.currentTimeMillis();
+        scheduler.reset();
 
         while (isRunning && !thread.isInterrupted()) {
 
-            long now = System.nanoTime();
-            delta += (now - lastTime) / ns;
-            lastTime = now;
-            while (delta >= 1) {
+            if (gameStatus == GameStatus.LOADING && assetPreloader.isDone()) {
+                finishLoading();
+            }
+
+            int ticks = scheduler.advance();
+            for (int i = 0; i < ticks; i++) {
                 if (gameStatus == GameStatus.RUNNING) {
                     gameLoop();
                 }
-                delta--;
             }
             render();
 
-            if(gameStatus != GameStatus.RUNNING){
-                timer = System.currentTimeMillis();
-            }
-
-            if (System.currentTimeMillis() - timer > 1000) {
-                timer += 1000;
-                mapManager.updateTime();
-            }
+            scheduler.waitForNextFrame(TickScheduler.frameNanos(isIdle() ? IDLE_FPS : TARGET_FPS));
         }
     }
 
+    // 에셋 로딩 완료: 사운드 연결, 화면 에셋 준비 후 시작 화면으로
+    private void finishLoading() {
+        soundManager = assetPreloader.getSoundManager();
+        uiManager.loadAssets();
+        System.out.printf("[GAME] Ready %.1f ms after launch%n", (System.nanoTime() - launchTime) / 1e6);
+        setGameStatus(GameStatus.START_SCREEN);
+    }
+
+    // 에셋 로딩 진행률 (0.0 ~ 1.0, 로딩 화면 표시용)
+    public float getLoadingProgress() {
+        return assetPreloader.getProgress();
+    }
+
+    // 유휴 모드: 창이 포커스를 잃었거나 게임 중이 아니면 낮은 FPS로 대기
+    private boolean isIdle() {
+        return !windowFocused || gameStatus != GameStatus.RUNNING;
+    }
+
     private void render() {
-        // RUNNING 상태에서만 repaint (서버로부터 받은 게임 상태 렌더링)
-        if (gameStatus == GameStatus.RUNNING) {
+        // RUNNING 상태(서버로부터 받은 게임 상태)와 로딩 화면(진행률)만 매 프레임 repaint
+        if (gameStatus == GameStatus.RUNNING || gameStatus == GameStatus.LOADING) {
             uiManager.repaint();
         }
     }
 
+    // 클라이언트 로직 틱: 새 스냅샷이 도착했을 때만 로컬 상태에 반영
     private void gameLoop() {
-        // 클라이언트는 게임 로직을 실행하지 않음 (서버가 처리)
+        GameStateMessage state = latestGameState.get();
+        if (state != null && state != appliedGameState) {
+            appliedGameState = state;
+            applySnapshot(state);
+        }
     }
     
     private void singlePlayerGameLoop() {
@@ -198,6 +243,10 @@ public class GameEngine implements Runnable {
 
     // 입력 처리: 게임 상태에 따라 다른 처리
     public void receiveInput(ButtonAction input) {
+        if (gameStatus == GameStatus.LOADING) {
+            return;
+        }
+
         // 클라이언트는 항상 네트워크 모드로 동작
         if (networkManager != null) {
             handleNetworkInput(input);
@@ -409,11 +458,21 @@ public class GameEngine implements Runnable {
         return mapManager.collectGameState(camera);
     }
 
-    // 서버로부터 받은 게임 상태를 로컬에 적용 (생명이 0이면 게임오버 처리)
+    // 서버로부터 받은 게임 상태 수신 (네트워크 스레드): 최신 스냅샷만 교체하고 반환
     public void applyGameState(GameStateMessage state) {
+        latestGameState.set(state);
+    }
+
+    // 렌더 스레드(EDT)가 그릴 최신 스냅샷
+    public GameStateMessage getLatestGameState() {
+        return latestGameState.get();
+    }
+
+    // 스냅샷을 로컬에 적용 (생명이 0이면 게임오버 처리) - 로직 스레드에서만 호출
+    private void applySnapshot(GameStateMessage state) {
         mapManager.applyGameState(state);
         
-        if (state != null && state.getPlayer(myPlayerId) != null) {
+        if (state.getPlayer(myPlayerId) != null) {
             GameStateMessage.PlayerState myPlayer = state.getPlayer(myPlayerId);
             if (myPlayer.lives <= 0 && gameStatus == GameStatus.RUNNING) {
                 finalScore = myPlayer.points;
@@ -422,8 +481,6 @@ public class GameEngine implements Runnable {
                 setGameStatus(GameStatus.GAME_OVER);
             }
         }
-        
-        uiManager.repaint();
     }
     
     // 서버가 게임 시작 신호를 보냈을 때 호출
@@ -431,6 +488,7 @@ public class GameEngine implements Runnable {
         System.out.println("[GAME] ===== onGameStart() CALLED =====");
         System.out.println("[GAME] Current game status: " + gameStatus);
         System.out.println("[GAME] Game start signal received from server");
+        uiManager.resetOverlay();
         setGameStatus(GameStatus.RUNNING);
         System.out.println("[GAME] After setGameStatus, current status: " + gameStatus);
     }
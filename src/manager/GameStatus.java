@@ -2,6 +2,7 @@ package manager;
 
 // 게임 상태 정의: 각 상태에 따라 다른 화면과 입력 처리 로직 실행
 public enum GameStatus {
+    LOADING,                // 시작 시 에셋 로딩 중
     GAME_OVER,              // 생명 소진 또는 시간 초과
     PAUSED,                 // 일시정지
     RUNNING,                // 게임 플레이 중
@@ -0,0 +1,160 @@
+package manager;
+
+import java.io.*;
+
+// 입력 리플레이: 맵 이름, 시드, 틱 번호가 붙은 processInput 호출(참가/퇴장 포함)을 기록하고 작은 바이너리 파일로 저장/로드
+// 같은 맵 + 같은 시드 + 같은 입력이면 같은 결과가 나오므로 ReplayPlayer로 서버 시뮬레이션을 그대로 다시 돌릴 수 있음
+// 기록은 시뮬레이션 스레드에서만 호출 (MapManager.setInputRecorder)
+public class InputReplay {
+
+    public static final int JOIN = -1; // 플레이어 생성을 나타내는 keyCode
+    public static final int LEAVE = -2; // 플레이어 제거를 나타내는 keyCode
+
+    private static final int MAGIC = 0x534D4252; // "SMBR"
+    private static final int VERSION = 1;
+
+    private final String mapName;
+    private final long seed;
+    private long[] events = new long[256]; // (틱 << 24) | (눌림 << 23) | (플레이어 id << 16) | keyCode
+    private int count;
+    private long finalTick;
+    private boolean hasStateHash;
+    private long stateHash;
+
+    public InputReplay(String mapName, long seed) {
+        this.mapName = mapName;
+        this.seed = seed;
+    }
+
+    // 입력 하나 기록 (tick = 이 입력 직전까지 진행된 틱 수, 같은 틱의 입력은 호출 순서 유지)
+    public void record(long tick, int playerId, int keyCode, boolean pressed) {
+        if (count == events.length) {
+            events = java.util.Arrays.copyOf(events, count * 2);
+        }
+        events[count++] = (tick << 24) | (pressed ? 1L << 23 : 0) | ((long) (playerId & 0x7F) << 16) | (keyCode & 0xFFFF);
+    }
+
+    // 기록 종료: 마지막 틱 수와 그 시점의 상태 해시 저장 (재생 결과 비교용)
+    public void finish(long finalTick, long stateHash) {
+        this.finalTick = finalTick;
+        this.stateHash = stateHash;
+        this.hasStateHash = true;
+    }
+
+    // 비정상 종료 시: 해시 없이 마지막 틱 수만 저장 (재생은 이 틱까지 진행)
+    public void finishWithoutHash(long finalTick) {
+        this.finalTick = finalTick;
+        this.hasStateHash = false;
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getEventCount() {
+        return count;
+    }
+
+    public long getTick(int index) {
+        return events[index] >>> 24;
+    }
+
+    public int getPlayerId(int index) {
+        return (int) (events[index] >>> 16) & 0x7F;
+    }
+
+    public int getKeyCode(int index) {
+        return (short) events[index];
+    }
+
+    public boolean isPressed(int index) {
+        return (events[index] & (1L << 23)) != 0;
+    }
+
+    public long getFinalTick() {
+        return finalTick;
+    }
+
+    public boolean hasStateHash() {
+        return hasStateHash;
+    }
+
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    // 파일 형식: 헤더(매직, 버전, 맵 이름, 시드) → 입력 수 → 입력마다 [틱 차이(varint), 눌림|플레이어 id(1바이트), keyCode(2바이트)]
+    //            → 마지막 틱(varint), 해시 유무, 상태 해시
+    public void write(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(mapName);
+            out.writeLong(seed);
+            writeVarLong(out, count);
+
+            long previousTick = 0;
+            for (int i = 0; i < count; i++) {
+                long tick = getTick(i);
+                writeVarLong(out, tick - previousTick);
+                previousTick = tick;
+                out.writeByte((isPressed(i) ? 0x80 : 0) | getPlayerId(i));
+                out.writeShort(getKeyCode(i));
+            }
+
+            writeVarLong(out, finalTick);
+            out.writeBoolean(hasStateHash);
+            out.writeLong(stateHash);
+        }
+    }
+
+    public static InputReplay read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a replay file: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported replay version " + version + ": " + file);
+            }
+
+            InputReplay replay = new InputReplay(in.readUTF(), in.readLong());
+            long eventCount = readVarLong(in);
+            long tick = 0;
+            for (long i = 0; i < eventCount; i++) {
+                tick += readVarLong(in);
+                int flags = in.readUnsignedByte();
+                replay.record(tick, flags & 0x7F, in.readShort(), (flags & 0x80) != 0);
+            }
+
+            replay.finalTick = readVarLong(in);
+            replay.hasStateHash = in.readBoolean();
+            replay.stateHash = in.readLong();
+            return replay;
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -2,6 +2,7 @@ package manager;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.Random;
 import model.EndFlag;
 import model.Map;
 import model.brick.*;
@@ -16,15 +17,17 @@ import view.ImageLoader;
 class MapCreator {
 
     private ImageLoader imageLoader;
+    private Random random; // 랜덤 아이템 결정용 (MapManager의 시드로 생성)
     private BufferedImage backgroundImage;
     private BufferedImage superMushroom, oneUpMushroom, fireFlower, coin;
     private BufferedImage ordinaryBrick, surpriseBrick, groundBrick, pipe;
     private BufferedImage goombaLeft, goombaRight, koopaLeft, koopaRight, endFlag;
 
     // 스프라이트 시트에서 모든 게임 요소의 이미지 추출
-    MapCreator(ImageLoader imageLoader) {
+    MapCreator(ImageLoader imageLoader, Random random) {
 
         this.imageLoader = imageLoader;
+        this.random = random;
         BufferedImage sprite = imageLoader.loadImage("/sprite.png");
         this.backgroundImage = imageLoader.loadImage("/background.png");
         
@@ -61,11 +64,17 @@ class MapCreator {
             return null;
         }
 
-        Map createdMap = new Map(timeLimit, backgroundImage);
         String[] paths = mapPath.split("/");
-        createdMap.setPath(paths[paths.length-1]);
+        return createMap(mapImage, paths[paths.length-1], timeLimit);
+    }
+
+    // 이미 읽어 둔 맵 이미지로 생성 (벤치마크의 합성 맵처럼 파일이 없는 맵에도 사용)
+    Map createMap(BufferedImage mapImage, String mapName, double timeLimit) {
+        Map createdMap = new Map(timeLimit, backgroundImage);
+        createdMap.setPath(mapName);
 
         int pixelMultiplier = 48; // 1픽셀 = 48 게임 단위
+        createdMap.setWidth(mapImage.getWidth() * pixelMultiplier);
 
         // 기본 오브젝트
         int mario = new Color(160, 160, 160).getRGB();
@@ -156,7 +165,7 @@ class MapCreator {
                 }
                 else if (currentPixel == groundBrick2) {
                     // 갈색 지면: Map 1에서는 생성 안 함 (투명), Map 2에서는 OrdinaryBrick 스프라이트 사용
-                    boolean isUnderground = mapPath != null && (mapPath.contains("Map 2") || mapPath.contains("map2"));
+                    boolean isUnderground = mapName != null && (mapName.contains("Map 2") || mapName.contains("map2"));
                     if (isUnderground) {
                         Brick brick = new GroundBrick(xLocation, yLocation, this.ordinaryBrick);
                         createdMap.addGroundBrick(brick);
@@ -192,7 +201,7 @@ class MapCreator {
     // 참고: 랜덤 블록은 레거시 지원용, 신규 맵은 아이템 타입별 블록 사용 권장
     private Prize generateRandomPrize(double x, double y){
         Prize generated;
-        int random = (int)(Math.random() * 12);
+        int random = this.random.nextInt(12);
 
         if(random == 0){
             generated = new SuperMushroom(x, y, this.superMushroom);
@@ -2,6 +2,11 @@ package manager;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import metrics.CollisionPhaseEvent;
+import metrics.MapLoadEvent;
+import metrics.TickProfiler;
+import model.EntityList;
 import model.GameObject;
 import model.Map;
 import model.brick.Brick;
@@ -19,27 +24,137 @@ import view.ImageLoader;
 // 맵 관리자: 맵 생성, 충돌 감지, 플레이어 관리, 게임 상태 직렬화
 public class MapManager {
     
-    public static final int MAX_PLAYERS = 4;
+    public static final int MAX_PLAYERS = 64;
+    public static final int TICKS_PER_SECOND = 60; // 시뮬레이션 틱 속도 (남은 시간은 이 틱 수마다 1초 감소)
+    private static final int PARALLEL_MIN_PLAYERS = 8; // 이보다 적으면 작업 분할 비용이 더 커서 순차 실행
+    private static final int PLAYER_GRAIN = 4; // 병렬 작업 하나가 맡는 최소 플레이어 수
+    static final int ENEMY_CHUNK = 16; // 적 충돌 검사 작업 단위
 
     private Map map;
-    private Mario[] players = new Mario[MAX_PLAYERS + 1]; // players[0]=사용 안함, players[1~4]=플레이어
+    private Mario[] players = new Mario[5]; // players[id] (id 1~MAX_PLAYERS, 큰 id가 들어오면 늘림), players[0]=사용 안함
+    private int[] activeIds = new int[4]; // 현재 플레이어 id 목록 (오름차순, 틱마다 이 순서로 처리)
+    private int activeCount;
     private ImageLoader imageLoader;
+    private final TickEventLog tickEvents = new TickEventLog(256); // 이번 틱에 실제로 반영된 이벤트 (틱마다 재사용)
+    private final TickEventLog fireballEvents = new TickEventLog(16); // 파이어볼 검사의 변경 요청
+    private final ArrayList<Brick> nearbyBricks = new ArrayList<>(); // 순차 단계의 bricksNear() 작업 리스트 (재사용)
+    private PlayerContacts[] contacts = new PlayerContacts[4]; // 활성 플레이어 순서대로 충돌 검사 결과 (재사용)
+    private final ArrayList<ArrayList<Brick>> enemyScratch = new ArrayList<>(); // 적 묶음별 bricksNear() 작업 리스트
+    private ForkJoinPool collisionPool; // 충돌 검사 병렬 실행용 (null이면 순차)
+    private final long seed; // 맵 생성 난수 시드 (같은 시드 + 같은 입력이면 같은 결과)
+    private long tick; // 현재 맵에서 진행된 시뮬레이션 틱 수
+    private InputReplay inputRecorder; // 입력 기록 (null이면 기록 안 함)
+    private TickProfiler profiler; // 충돌 검사 단계별 시간 기록 (null이거나 꺼져 있으면 측정 안 함)
+    private int roomId; // JFR 충돌 단계 이벤트에 붙일 방 번호 (싱글 플레이는 0)
+    private CollisionPhaseEvent phaseEvent; // 진행 중인 JFR 충돌 단계 이벤트 (레코딩 중이 아니면 null)
 
-    public MapManager() {}
+    public MapManager() {
+        this(System.nanoTime());
+    }
+
+    public MapManager(long seed) {
+        this.seed = seed;
+    }
 
-    // 모든 플레이어와 맵 오브젝트의 위치 업데이트
+    // 시뮬레이션 1틱: 모든 플레이어와 맵 오브젝트의 위치 업데이트, 틱 단위 타이머 진행
     public void updateLocations() {
         if (map == null)
             return;
 
-        for (int i = 1; i <= MAX_PLAYERS; i++) {
-            if (players[i] != null) {
-                players[i].updateLocation();
-                players[i].updateDamageInvincibility(0.016); // 60Hz 기준
-            }
+        tick++;
+        for (int k = 0; k < activeCount; k++) {
+            Mario player = players[activeIds[k]];
+            player.updateLocation();
+            player.updateDamageInvincibility();
         }
         
         map.updateLocations();
+
+        if (tick % TICKS_PER_SECOND == 0) {
+            map.updateTime(1);
+        }
+    }
+
+    // 충돌 검사를 병렬로 실행할 풀 지정 (null이면 순차, 서버 모드에서 플레이어가 많을 때만 사용)
+    public void setCollisionPool(ForkJoinPool collisionPool) {
+        this.collisionPool = collisionPool;
+    }
+
+    // 충돌 검사 단계별 시간을 기록할 프로파일러와 JFR 이벤트에 붙일 방 번호 지정
+    public void setProfiler(TickProfiler profiler, int roomId) {
+        this.profiler = profiler;
+        this.roomId = roomId;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getEnemyCount() {
+        return map != null ? map.getEnemies().size() : 0;
+    }
+
+    public int getPrizeCount() {
+        return map != null ? map.getRevealedPrizes().size() : 0;
+    }
+
+    public int getFireballCount() {
+        return map != null ? map.getFireballs().size() : 0;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // 이후 processInput 호출과 플레이어 참가/퇴장을 기록 (플레이어가 들어오기 전, 맵 생성 직후에 지정)
+    public void setInputRecorder(InputReplay inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
+    public InputReplay getInputRecorder() {
+        return inputRecorder;
+    }
+
+    // 시뮬레이션 상태 해시: 틱, 플레이어(위치/속도/점수/코인/생명), 적/아이템/파이어볼 위치, 남은 시간 (리플레이 결과 비교용)
+    public long computeStateHash() {
+        long hash = mixHash(0xcbf29ce484222325L, tick);
+        for (int k = 0; k < activeCount; k++) {
+            Mario player = players[activeIds[k]];
+            hash = mixHash(hash, activeIds[k]);
+            hash = mixHash(hash, Double.doubleToLongBits(player.getX()));
+            hash = mixHash(hash, Double.doubleToLongBits(player.getY()));
+            hash = mixHash(hash, Double.doubleToLongBits(player.getVelX()));
+            hash = mixHash(hash, Double.doubleToLongBits(player.getVelY()));
+            hash = mixHash(hash, player.getPoints());
+            hash = mixHash(hash, player.getCoins());
+            hash = mixHash(hash, player.getRemainingLives());
+        }
+        if (map != null) {
+            hash = hashObjects(hash, map.getEnemies());
+            hash = hashObjects(hash, map.getRevealedPrizes());
+            hash = hashObjects(hash, map.getFireballs());
+            hash = mixHash(hash, Double.doubleToLongBits(map.getRemainingTime()));
+        }
+        return hash;
+    }
+
+    private static long hashObjects(long hash, EntityList<?> objects) {
+        hash = mixHash(hash, objects.size());
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject object = (GameObject) objects.get(i);
+            hash = mixHash(hash, Double.doubleToLongBits(object.getX()));
+            hash = mixHash(hash, Double.doubleToLongBits(object.getY()));
+        }
+        return hash;
+    }
+
+    // FNV-1a 방식으로 long 하나를 해시에 섞음
+    private static long mixHash(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
     }
 
     // 플레이어 리스폰 (생명이 0이면 클라이언트가 게임오버 처리)
@@ -57,13 +172,49 @@ public class MapManager {
 
     // MapCreator로 맵 파일을 로드하고 생성
     public boolean createMap(ImageLoader loader, String path) {
+        MapLoadEvent event = new MapLoadEvent();
+        event.begin();
         this.imageLoader = loader;
-        MapCreator mapCreator = new MapCreator(loader);
+        MapCreator mapCreator = new MapCreator(loader, new java.util.Random(seed));
         map = mapCreator.createMap("/maps/" + path, 400);
+        tick = 0;
 
+        commitMapLoad(event, path);
         return map != null;
     }
 
+    // 이미 읽어 둔 맵 이미지로 생성 (벤치마크용 합성 맵)
+    boolean createMap(ImageLoader loader, java.awt.image.BufferedImage mapImage, String mapName) {
+        MapLoadEvent event = new MapLoadEvent();
+        event.begin();
+        this.imageLoader = loader;
+        MapCreator mapCreator = new MapCreator(loader, new java.util.Random(seed));
+        map = mapCreator.createMap(mapImage, mapName, 400);
+        tick = 0;
+
+        commitMapLoad(event, mapName);
+        return map != null;
+    }
+
+    // JFR 레코딩 중이면 맵 생성 결과 기록
+    private void commitMapLoad(MapLoadEvent event, String mapName) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.mapName = mapName;
+            event.seed = seed;
+            event.success = map != null;
+            if (map != null) {
+                event.bricks = map.getAllBricks().size();
+                event.enemies = map.getEnemies().size();
+            }
+            event.commit();
+        }
+    }
+
+    Map getMap() {
+        return map;
+    }
+
     public void acquirePoints(int point) {
         map.getMario().acquirePoints(point);
     }
@@ -80,41 +231,87 @@ public class MapManager {
         if (playerId < 1 || playerId > MAX_PLAYERS) {
             return null;
         }
-        if (players[playerId] == null && map != null) {
+        if (playerId < players.length && players[playerId] != null) {
+            return players[playerId];
+        }
+        if (map != null) {
             Mario template = map.getMario();
             if (template != null && imageLoader != null) {
-                players[playerId] = new Mario(template.getX(), template.getY(), imageLoader);
+                storePlayer(playerId, new Mario(template.getX(), template.getY(), imageLoader));
+                if (inputRecorder != null) {
+                    inputRecorder.record(tick, playerId, InputReplay.JOIN, true);
+                }
                 System.out.println("[MapManager] Created new Mario for player " + playerId + 
                                    " at (" + template.getX() + ", " + template.getY() + ")");
+                return players[playerId];
             }
         }
-        return players[playerId];
+        return null;
     }
     
     public void setPlayer(int playerId, Mario player) {
         if (playerId >= 1 && playerId <= MAX_PLAYERS) {
-            players[playerId] = player;
+            storePlayer(playerId, player);
             System.out.println("[MapManager] Set player " + playerId + " (Mario object assigned)");
         }
     }
     
     public void removePlayer(int playerId) {
-        if (playerId >= 1 && playerId <= MAX_PLAYERS) {
-            players[playerId] = null;
+        if (playerId >= 1 && playerId < players.length && players[playerId] != null) {
+            storePlayer(playerId, null);
+            if (inputRecorder != null) {
+                inputRecorder.record(tick, playerId, InputReplay.LEAVE, true);
+            }
             System.out.println("[MapManager] Removed player " + playerId);
         }
     }
+
+    // players[playerId] 교체 후 id 목록 갱신 (배열이 작으면 늘림)
+    private void storePlayer(int playerId, Mario player) {
+        if (playerId >= players.length) {
+            if (player == null) {
+                return;
+            }
+            players = java.util.Arrays.copyOf(players, Math.min(MAX_PLAYERS + 1, Math.max(playerId + 1, players.length * 2)));
+        }
+
+        boolean wasActive = players[playerId] != null;
+        players[playerId] = player;
+        int position = java.util.Arrays.binarySearch(activeIds, 0, activeCount, playerId);
+        if (player != null && !wasActive) {
+            if (activeCount == activeIds.length) {
+                activeIds = java.util.Arrays.copyOf(activeIds, activeCount * 2);
+            }
+            int insert = -position - 1;
+            System.arraycopy(activeIds, insert, activeIds, insert + 1, activeCount - insert);
+            activeIds[insert] = playerId;
+            activeCount++;
+        } else if (player == null && wasActive) {
+            System.arraycopy(activeIds, position + 1, activeIds, position, activeCount - position - 1);
+            activeCount--;
+        }
+    }
     
+    // id로 인덱싱된 플레이어 배열 (빈 칸은 null, 길이는 가장 큰 id + 1 이상)
     public Mario[] getAllPlayers() {
         return players;
     }
+
+    public int getPlayerCount() {
+        return activeCount;
+    }
+
+    // 현재 가장 큰 플레이어 id (플레이어가 없으면 0)
+    public int getMaxPlayerId() {
+        return activeCount > 0 ? activeIds[activeCount - 1] : 0;
+    }
     
     // 특정 플레이어를 제외한 나머지 플레이어 목록 반환
     public ArrayList<Mario> getOtherPlayers(int myPlayerId) {
         ArrayList<Mario> others = new ArrayList<>();
-        for (int i = 1; i <= MAX_PLAYERS; i++) {
-            if (i != myPlayerId && players[i] != null) {
-                others.add(players[i]);
+        for (int k = 0; k < activeCount; k++) {
+            if (activeIds[k] != myPlayerId) {
+                others.add(players[activeIds[k]]);
             }
         }
         return others;
@@ -127,9 +324,8 @@ public class MapManager {
             return;
         }
         
-        Fireball fireball = mario.fire();
+        Fireball fireball = mario.fire(map);
         if (fireball != null) {
-            map.addFireball(fireball);
             engine.playFireball();
         }
     }
@@ -171,30 +367,170 @@ public class MapManager {
     }
 
     // 모든 충돌 검사 (서버에서 60Hz로 실행)
+    // 1) 플레이어별 검사와 적-블록 검사: 자기 오브젝트만 바꾸므로 병렬 실행 가능 (공유 오브젝트 변경은 이벤트로 기록)
+    // 2) 기록한 이벤트를 플레이어 id 순서로 적용 → 3) 아이템/파이어볼 검사 (순차)
+    // 반영된 이벤트는 getTickEvents()로 읽을 수 있음
     public void checkCollisions(GameEngine engine) {
         if (map == null) {
             return;
         }
+        tickEvents.clear();
 
-        for (int i = 1; i <= MAX_PLAYERS; i++) {
-            if (players[i] != null) {
-                checkBottomCollisions(players[i], engine);
-                checkTopCollisions(players[i], engine);
-                checkMarioHorizontalCollision(players[i], engine);
-                checkPrizeContact(players[i], engine);
+        while (contacts.length < activeCount) {
+            contacts = java.util.Arrays.copyOf(contacts, contacts.length * 2);
+        }
+        for (int k = 0; k < activeCount; k++) {
+            if (contacts[k] == null) {
+                contacts[k] = new PlayerContacts();
             }
+            contacts[k].reset(players[activeIds[k]], activeIds[k]);
         }
-        
-        checkEnemyCollisions();
+
+        EntityList<Enemy> enemies = map.getEnemies();
+        int enemyChunks = (enemies.size() + ENEMY_CHUNK - 1) / ENEMY_CHUNK;
+        while (enemyScratch.size() < enemyChunks) {
+            enemyScratch.add(new ArrayList<>());
+        }
+
+        TickProfiler timer = profiler != null && profiler.isEnabled() ? profiler : null;
+        phaseEvent = CollisionPhaseEvent.isRecording() ? CollisionPhaseEvent.start() : null;
+        long phaseStart = timer != null ? System.nanoTime() : 0;
+
+        // 엔진이 있으면(싱글 플레이) 효과음/카메라 호출이 있으므로 항상 순차 실행
+        if (collisionPool != null && engine == null && activeCount >= PARALLEL_MIN_PLAYERS) {
+            collisionPool.invoke(new ParallelRange(0, activeCount, PLAYER_GRAIN, (from, to) -> {
+                for (int k = from; k < to; k++) {
+                    checkPlayer(contacts[k], null);
+                }
+            }));
+            phaseStart = lap(timer, TickProfiler.COLLISION_PLAYERS, phaseStart, true);
+            collisionPool.invoke(new ParallelRange(0, enemyChunks, 1, (from, to) -> {
+                for (int chunk = from; chunk < to; chunk++) {
+                    checkEnemyCollisions(chunk);
+                }
+            }));
+        } else {
+            for (int k = 0; k < activeCount; k++) {
+                checkPlayer(contacts[k], engine);
+            }
+            phaseStart = lap(timer, TickProfiler.COLLISION_PLAYERS, phaseStart, true);
+            for (int chunk = 0; chunk < enemyChunks; chunk++) {
+                checkEnemyCollisions(chunk);
+            }
+        }
+        phaseStart = lap(timer, TickProfiler.COLLISION_ENEMIES, phaseStart, true);
+
+        for (int k = 0; k < activeCount; k++) {
+            commitEvents(contacts[k].events, engine);
+        }
+        phaseStart = lap(timer, TickProfiler.COLLISION_COMMIT, phaseStart, true);
+
         checkPrizeCollision();
-        checkFireballContact();
+        phaseStart = lap(timer, TickProfiler.COLLISION_PRIZES, phaseStart, true);
+        checkFireballContact(engine);
+        lap(timer, TickProfiler.COLLISION_FIREBALLS, phaseStart, false);
+    }
+
+    // 구간 하나 끝: JFR 레코딩 중이면 진행 중인 단계 이벤트를 끝내고(next면 다음 단계 이벤트 시작),
+    // 프로파일러가 켜져 있으면 구간 시간을 기록하고 다음 구간 시작 시각 반환
+    private long lap(TickProfiler timer, int phase, long start, boolean next) {
+        if (phaseEvent != null) {
+            phaseEvent.finish(roomId, tick, phase);
+            phaseEvent = next ? CollisionPhaseEvent.start() : null;
+        }
+        if (timer == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        timer.record(phase, now - start);
+        return now;
+    }
+
+    // 이번 틱에 반영된 이벤트 (다음 checkCollisions 호출 전까지 유효)
+    public TickEventLog getTickEvents() {
+        return tickEvents;
+    }
+
+    // 플레이어 한 명의 충돌 검사 (플레이어 자신만 변경)
+    private void checkPlayer(PlayerContacts contact, GameEngine engine) {
+        checkBottomCollisions(contact);
+        checkTopCollisions(contact);
+        checkMarioHorizontalCollision(contact, engine);
+        checkPrizeContact(contact);
+    }
+
+    // 변경 요청 이벤트를 순서대로 적용하고 실제로 반영된 것만 tickEvents에 추가
+    // 같은 적/아이템을 여러 명이 건드렸으면 먼저 적용된(id가 작은) 플레이어가 가져가고 나머지는 버림
+    private void commitEvents(TickEventLog events, GameEngine engine) {
+        for (int i = 0; i < events.size(); i++) {
+            int type = events.getType(i);
+            int playerId = events.getPlayerId(i);
+            int a = events.getA(i);
+            int b = events.getB(i);
+            Mario mario = playerId > 0 ? players[playerId] : getMario(); // 파이어볼 점수는 기존대로 기본 마리오에게
+
+            switch (type) {
+                case TickEventLog.ENEMY_KILLED: {
+                    Enemy enemy = map.getEnemy(a);
+                    if (enemy != null && map.removeEnemy(enemy)) {
+                        tickEvents.add(type, playerId, a, b);
+                        awardPoints(mario, playerId, 100);
+                        if (engine != null && b == 0) {
+                            engine.playStomp();
+                        }
+                    }
+                    break;
+                }
+                case TickEventLog.PRIZE_COLLECTED: {
+                    Prize prize = map.getRevealedPrize(a);
+                    if (prize == null || (prize instanceof Coin && ((Coin) prize).isAcquired())) {
+                        break;
+                    }
+                    int pointsBefore = mario.getPoints();
+                    prize.onTouch(mario, engine);
+                    if (b == 1) {
+                        map.removePrize(prize);
+                    }
+                    tickEvents.add(type, playerId, a, b);
+                    if (mario.getPoints() != pointsBefore) {
+                        tickEvents.add(TickEventLog.POINTS_AWARDED, playerId, mario.getPoints() - pointsBefore, 0);
+                    }
+                    break;
+                }
+                case TickEventLog.BRICK_REVEALED: {
+                    Brick brick = map.getBrickGrid().find(a, b);
+                    Prize prize = brick != null ? brick.reveal(engine) : null;
+                    if (prize != null) {
+                        map.addRevealedPrize(prize);
+                        tickEvents.add(type, playerId, a, b);
+                    }
+                    break;
+                }
+                case TickEventLog.FIREBALL_EXPIRED: {
+                    Fireball fireball = map.getFireball(a);
+                    if (fireball != null) {
+                        map.removeFireball(fireball);
+                        tickEvents.add(type, playerId, a, b);
+                    }
+                    break;
+                }
+            }
+        }
+        events.clear();
     }
 
-    // 하단 충돌: 블록 위 착지, 적 밟기
-    private void checkBottomCollisions(Mario mario, GameEngine engine) {
-        ArrayList<Brick> bricks = map.getAllBricks();
-        ArrayList<Enemy> enemies = map.getEnemies();
-        ArrayList<GameObject> toBeRemoved = new ArrayList<>();
+    private void awardPoints(Mario mario, int playerId, int points) {
+        mario.acquirePoints(points);
+        tickEvents.add(TickEventLog.POINTS_AWARDED, playerId, points, 0);
+    }
+
+    // 여기부터 개별 충돌 검사 메서드(check*)는 JMH 벤치마크(jmh/)에서 하나씩 측정할 수 있도록 패키지 공개
+
+    // 하단 충돌: 블록 위 착지, 적 밟기 (적 제거와 점수는 틱 끝에 적용)
+    void checkBottomCollisions(PlayerContacts contact) {
+        Mario mario = contact.player;
+        ArrayList<Brick> bricks = bricksNear(mario, contact.nearbyBricks);
+        EntityList<Enemy> enemies = map.getEnemies();
 
         Rectangle marioBottomBounds = mario.getBottomBounds();
 
@@ -214,11 +550,7 @@ public class MapManager {
             Rectangle enemyTopBounds = enemy.getTopBounds();
             if (marioBottomBounds.intersects(enemyTopBounds)) {
                 if (!mario.isDamageInvincible()) {
-                    mario.acquirePoints(100);
-                    toBeRemoved.add(enemy);
-                    if (engine != null) {
-                        engine.playStomp();
-                    }
+                    contact.events.add(TickEventLog.ENEMY_KILLED, contact.playerId, enemy.getEntityId(), 0);
                 }
             }
         }
@@ -228,13 +560,12 @@ public class MapManager {
             mario.setFalling(false);
             mario.setVelY(0);
         }
-
-        removeObjects(toBeRemoved);
     }
 
-    // 상단 충돌: 블록 밑에서 부딪혀서 아이템 나오게 하기
-    private void checkTopCollisions(Mario mario, GameEngine engine) {
-        ArrayList<Brick> bricks = map.getAllBricks();
+    // 상단 충돌: 블록 밑에서 부딪혀서 아이템 나오게 하기 (블록 열기는 틱 끝에 적용)
+    void checkTopCollisions(PlayerContacts contact) {
+        Mario mario = contact.player;
+        ArrayList<Brick> bricks = bricksNear(mario, contact.nearbyBricks);
 
         Rectangle marioTopBounds = mario.getTopBounds();
         for (Brick brick : bricks) {
@@ -242,18 +573,16 @@ public class MapManager {
             if (marioTopBounds.intersects(brickBottomBounds)) {
                 mario.setVelY(0);
                 mario.setY(brick.getY() + brick.getDimension().height);
-                Prize prize = brick.reveal(engine);
-                if(prize != null)
-                    map.addRevealedPrize(prize);
+                contact.events.add(TickEventLog.BRICK_REVEALED, contact.playerId, (int) brick.getX(), (int) brick.getY());
             }
         }
     }
 
-    // 수평 충돌: 블록/적과 좌우 충돌, 적과 충돌 시 폼 변환 또는 사망
-    private void checkMarioHorizontalCollision(Mario mario, GameEngine engine){
-        ArrayList<Brick> bricks = map.getAllBricks();
-        ArrayList<Enemy> enemies = map.getEnemies();
-        ArrayList<GameObject> toBeRemoved = new ArrayList<>();
+    // 수평 충돌: 블록/적과 좌우 충돌, 적과 충돌 시 폼 변환 또는 사망 (이번 틱에 밟은 적은 제외)
+    void checkMarioHorizontalCollision(PlayerContacts contact, GameEngine engine){
+        Mario mario = contact.player;
+        ArrayList<Brick> bricks = bricksNear(mario, contact.nearbyBricks);
+        EntityList<Enemy> enemies = map.getEnemies();
 
         boolean marioDies = false;
         boolean toRight = mario.getToRight();
@@ -273,13 +602,12 @@ public class MapManager {
 
         for(Enemy enemy : enemies){
             Rectangle enemyBounds = !toRight ? enemy.getRightBounds() : enemy.getLeftBounds();
-            if (marioBounds.intersects(enemyBounds)) {
+            if (marioBounds.intersects(enemyBounds) && !contact.events.contains(TickEventLog.ENEMY_KILLED, enemy.getEntityId())) {
                 if (!mario.isDamageInvincible()) {
                     marioDies = mario.onTouchEnemy(engine);
                 }
             }
         }
-        removeObjects(toBeRemoved);
 
         if (engine != null && mario.getX() <= engine.getCameraLocation().getX() && mario.getVelX() < 0) {
             mario.setVelX(0);
@@ -292,12 +620,16 @@ public class MapManager {
     }
 
     // 적 충돌: 블록과 충돌 시 방향 전환, 떨어질 때 중력 적용
-    private void checkEnemyCollisions() {
-        ArrayList<Brick> bricks = map.getAllBricks();
-        ArrayList<Enemy> enemies = map.getEnemies();
-
-        for (Enemy enemy : enemies) {
+    // chunk번째 ENEMY_CHUNK개 묶음만 처리 (묶음마다 적 자신만 바꾸고 작업 리스트도 따로 쓰므로 묶음끼리 병렬 실행 가능)
+    void checkEnemyCollisions(int chunk) {
+        EntityList<Enemy> enemies = map.getEnemies();
+        ArrayList<Brick> scratch = enemyScratch.get(chunk);
+        int end = Math.min(enemies.size(), (chunk + 1) * ENEMY_CHUNK);
+
+        for (int e = chunk * ENEMY_CHUNK; e < end; e++) {
+            Enemy enemy = enemies.get(e);
             boolean standsOnBrick = false;
+            ArrayList<Brick> bricks = bricksNear(enemy, scratch);
 
             for (Brick brick : bricks) {
                 Rectangle enemyBounds = enemy.getLeftBounds();
@@ -336,13 +668,13 @@ public class MapManager {
     }
 
     // 아이템 충돌: BoostItem이 블록과 충돌하여 방향 전환, 바닥 착지
-    private void checkPrizeCollision() {
-        ArrayList<Prize> prizes = map.getRevealedPrizes();
-        ArrayList<Brick> bricks = map.getAllBricks();
+    void checkPrizeCollision() {
+        EntityList<Prize> prizes = map.getRevealedPrizes();
 
         for (Prize prize : prizes) {
             if (prize instanceof BoostItem) {
                 BoostItem boost = (BoostItem) prize;
+                ArrayList<Brick> bricks = bricksNear(boost, nearbyBricks);
                 Rectangle prizeBottomBounds = boost.getBottomBounds();
                 Rectangle prizeRightBounds = boost.getRightBounds();
                 Rectangle prizeLeftBounds = boost.getLeftBounds();
@@ -391,82 +723,64 @@ public class MapManager {
     }
 
     // 아이템 획득: 마리오와 아이템 충돌 시 효과 적용
-    private void checkPrizeContact(Mario mario, GameEngine engine) {
-        ArrayList<Prize> prizes = map.getRevealedPrizes();
-        ArrayList<GameObject> toBeRemoved = new ArrayList<>();
+    void checkPrizeContact(PlayerContacts contact) {
+        Mario mario = contact.player;
+        EntityList<Prize> prizes = map.getRevealedPrizes();
 
         Rectangle marioBounds = mario.getBounds();
-        for(Prize prize : prizes){
+        for(int i = 0; i < prizes.size(); i++){
+            Prize prize = prizes.get(i);
             Rectangle prizeBounds = prize.getBounds();
+            if (prize instanceof Coin && ((Coin) prize).isAcquired()) {
+                continue;
+            }
             if (prizeBounds.intersects(marioBounds)) {
-                prize.onTouch(mario, engine);
-                toBeRemoved.add((GameObject) prize);
+                contact.events.add(TickEventLog.PRIZE_COLLECTED, contact.playerId, ((GameObject) prize).getEntityId(), 1);
             } else if(prize instanceof Coin){
-                prize.onTouch(mario, engine);
+                contact.events.add(TickEventLog.PRIZE_COLLECTED, contact.playerId, ((GameObject) prize).getEntityId(), 0);
             }
         }
-
-        removeObjects(toBeRemoved);
     }
 
     // 파이어볼 충돌: 적이나 블록에 닿으면 파이어볼 제거
-    private void checkFireballContact() {
-        ArrayList<Fireball> fireballs = map.getFireballs();
-        ArrayList<Enemy> enemies = map.getEnemies();
-        ArrayList<Brick> bricks = map.getAllBricks();
-        ArrayList<GameObject> toBeRemoved = new ArrayList<>();
+    void checkFireballContact(GameEngine engine) {
+        EntityList<Fireball> fireballs = map.getFireballs();
+        EntityList<Enemy> enemies = map.getEnemies();
 
         for(Fireball fireball : fireballs){
             Rectangle fireballBounds = fireball.getBounds();
+            ArrayList<Brick> bricks = bricksNear(fireball, nearbyBricks);
 
             for(Enemy enemy : enemies){
                 Rectangle enemyBounds = enemy.getBounds();
                 if (fireballBounds.intersects(enemyBounds)) {
-                    acquirePoints(100);
-                    toBeRemoved.add(enemy);
-                    toBeRemoved.add(fireball);
+                    fireballEvents.add(TickEventLog.ENEMY_KILLED, 0, enemy.getEntityId(), 1);
+                    fireballEvents.add(TickEventLog.FIREBALL_EXPIRED, 0, fireball.getEntityId(), 0);
                 }
             }
 
             for(Brick brick : bricks){
                 Rectangle brickBounds = brick.getBounds();
                 if (fireballBounds.intersects(brickBounds)) {
-                    toBeRemoved.add(fireball);
+                    fireballEvents.add(TickEventLog.FIREBALL_EXPIRED, 0, fireball.getEntityId(), 0);
                 }
             }
         }
 
-        removeObjects(toBeRemoved);
+        commitEvents(fireballEvents, engine);
     }
 
-    // 오브젝트 제거 (적, 파이어볼, 아이템)
-    private void removeObjects(ArrayList<GameObject> list){
-        if(list == null)
-            return;
-
-        for(GameObject object : list){
-            if(object instanceof Fireball){
-                map.removeFireball((Fireball)object);
-            }
-            else if(object instanceof Enemy){
-                map.removeEnemy((Enemy)object);
-            }
-            else if(object instanceof Coin || object instanceof BoostItem){
-                map.removePrize((Prize)object);
-            }
-        }
+    // 오브젝트와 x 범위가 겹치는 블록만 작업 리스트 out에 모아서 반환 (전체 블록 대신 검사)
+    private ArrayList<Brick> bricksNear(GameObject object, ArrayList<Brick> out) {
+        out.clear();
+        map.getBrickGrid().collect(object.getX(), object.getX() + object.getDimension().width, out);
+        return out;
     }
 
     public void addRevealedBrick(OrdinaryBrick ordinaryBrick) {
         map.addRevealedBrick(ordinaryBrick);
     }
 
-    // 남은 시간 1초 감소 (서버에서 1Hz로 호출)
-    public void updateTime(){
-        if(map != null)
-            map.updateTime(1);
-    }
-
     public int getRemainingTime() {
         return (int)map.getRemainingTime();
     }
@@ -477,14 +791,13 @@ public class MapManager {
             return null;
         }
 
-        GameStateMessage.PlayerState[] playerStates = new GameStateMessage.PlayerState[MAX_PLAYERS + 1];
-        for (int i = 1; i <= MAX_PLAYERS; i++) {
-            if (players[i] != null) {
-                playerStates[i] = createPlayerState(players[i]);
-            }
+        // 플레이어 id를 그대로 인덱스로 사용 (빈 id는 null)
+        GameStateMessage.PlayerState[] playerStates = new GameStateMessage.PlayerState[getMaxPlayerId() + 1];
+        for (int k = 0; k < activeCount; k++) {
+            playerStates[activeIds[k]] = createPlayerState(players[activeIds[k]]);
         }
         
-        ArrayList<Enemy> enemies = map.getEnemies();
+        EntityList<Enemy> enemies = map.getEnemies();
         GameStateMessage.EnemyState[] enemyStates = new GameStateMessage.EnemyState[enemies.size()];
         for (int i = 0; i < enemies.size(); i++) {
             Enemy enemy = enemies.get(i);
@@ -497,7 +810,7 @@ public class MapManager {
             enemyStates[i] = es;
         }
         
-        ArrayList<Prize> prizes = map.getRevealedPrizes();
+        EntityList<Prize> prizes = map.getRevealedPrizes();
         GameStateMessage.ItemState[] itemStates = new GameStateMessage.ItemState[prizes.size()];
         for (int i = 0; i < prizes.size(); i++) {
             Prize prize = prizes.get(i);
@@ -509,7 +822,7 @@ public class MapManager {
             itemStates[i] = is;
         }
         
-        ArrayList<Fireball> fireballs = map.getFireballs();
+        EntityList<Fireball> fireballs = map.getFireballs();
         GameStateMessage.FireballState[] fireballStates = new GameStateMessage.FireballState[fireballs.size()];
         for (int i = 0; i < fireballs.size(); i++) {
             Fireball fireball = fireballs.get(i);
@@ -551,6 +864,9 @@ public class MapManager {
         if (mario == null) {
             return;
         }
+        if (inputRecorder != null) {
+            inputRecorder.record(tick, playerId, keyCode, pressed);
+        }
         
         if (pressed) {
             switch (keyCode) {
@@ -633,7 +949,9 @@ public class MapManager {
         GameStateMessage.PlayerState[] playerStates = state.getPlayers();
         if (playerStates != null) {
             for (int i = 1; i <= MAX_PLAYERS && i < playerStates.length; i++) {
-                applyPlayerState(getPlayer(i), playerStates[i]);
+                if (playerStates[i] != null) {
+                    applyPlayerState(getPlayer(i), playerStates[i]);
+                }
             }
         }
     }
@@ -0,0 +1,164 @@
+package manager;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+// 배경음악 스트림: 파일 전체를 디코딩하지 않고 작은 링 버퍼만큼씩 읽어 믹서에 공급 (루프 구간, 위치 유지 일시정지 지원)
+// play/pause/restart는 어느 스레드에서든 호출 가능, 나머지는 믹서 스레드 전용
+class MusicStream {
+
+    private static final int RING_SIZE = 8192; // 링 버퍼 크기 (샘플, 22050Hz 기준 약 0.37초)
+
+    private final String path;
+    private final AudioFormat format;
+    private final long loopStart, loopEnd; // 루프 구간 (샘플 프레임, loopEnd <= 0이면 파일 끝)
+
+    private final short[] ring = new short[RING_SIZE];
+    private int readIndex, available;
+    private final byte[] readBuffer = new byte[2048];
+
+    private AudioInputStream stream;
+    private long streamPosition; // 스트림에서 읽은 프레임 수
+
+    private volatile boolean playing;
+    private volatile boolean restartRequested;
+
+    private MusicStream(String path, AudioFormat format, long loopStart, long loopEnd) {
+        this.path = path;
+        this.format = format;
+        this.loopStart = loopStart;
+        this.loopEnd = loopEnd;
+    }
+
+    // 스트림 열기 (헤더만 읽음). 파일이 없거나 열 수 없으면 null
+    static MusicStream open(String path, AudioFormat format, long loopStart, long loopEnd) {
+        MusicStream music = new MusicStream(path, format, loopStart, loopEnd);
+        try {
+            music.seek(0);
+        } catch (Exception e) {
+            System.err.println("[MusicStream] Cannot open " + path + ": " + e.getMessage());
+            return null;
+        }
+        return music;
+    }
+
+    // 현재 위치부터 재생 (일시정지했던 위치 유지)
+    void play() {
+        playing = true;
+    }
+
+    void pause() {
+        playing = false;
+    }
+
+    // 처음부터 다시 재생 (실제 위치 이동은 믹서 스레드에서 처리)
+    void restart() {
+        restartRequested = true;
+        playing = true;
+    }
+
+    // 믹서 스레드: count개 샘플을 mixBuffer에 더함
+    void mixInto(int[] mixBuffer, int count) {
+        if (restartRequested) {
+            restartRequested = false;
+            available = 0;
+            readIndex = 0;
+            try {
+                seek(0);
+            } catch (IOException e) {
+                System.err.println("[MusicStream] Restart failed: " + e.getMessage());
+                playing = false;
+            }
+        }
+        if (!playing || stream == null) {
+            return;
+        }
+
+        fill();
+        int n = Math.min(count, available);
+        for (int i = 0; i < n; i++) {
+            mixBuffer[i] += ring[readIndex];
+            readIndex = (readIndex + 1) % RING_SIZE;
+        }
+        available -= n;
+    }
+
+    // 링 버퍼의 빈 공간을 스트림에서 채움 (루프 끝에 닿으면 루프 시작으로 이동)
+    private void fill() {
+        try {
+            boolean looped = false;
+            while (RING_SIZE - available >= readBuffer.length / 2) {
+                int toRead = readBuffer.length;
+                if (loopEnd > 0) {
+                    toRead = (int) Math.min(toRead, (loopEnd - streamPosition) * 2);
+                }
+
+                int read = toRead > 0 ? stream.read(readBuffer, 0, toRead) : -1;
+                if (read <= 0) {
+                    if (looped) {
+                        // 루프 구간이 비어 있음 (잘못된 루프 지점 또는 빈 파일)
+                        playing = false;
+                        return;
+                    }
+                    seek(loopStart);
+                    looped = true;
+                    continue;
+                }
+                looped = false;
+
+                int writeIndex = (readIndex + available) % RING_SIZE;
+                for (int i = 0; i + 1 < read; i += 2) {
+                    ring[writeIndex] = (short) ((readBuffer[i] & 0xFF) | (readBuffer[i + 1] << 8));
+                    writeIndex = (writeIndex + 1) % RING_SIZE;
+                }
+                available += read / 2;
+                streamPosition += read / 2;
+            }
+        } catch (IOException e) {
+            System.err.println("[MusicStream] Read failed: " + e.getMessage());
+            playing = false;
+        }
+    }
+
+    // 스트림을 다시 열고 frame 위치까지 건너뜀
+    private void seek(long frame) throws IOException {
+        close();
+
+        InputStream audioSrc = MusicStream.class.getResourceAsStream(path);
+        if (audioSrc == null) {
+            throw new IOException("not found");
+        }
+        try {
+            AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(audioSrc));
+            stream = format.matches(source.getFormat()) ? source : AudioSystem.getAudioInputStream(format, source);
+        } catch (javax.sound.sampled.UnsupportedAudioFileException | IllegalArgumentException e) {
+            audioSrc.close();
+            throw new IOException(e.getMessage(), e);
+        }
+
+        long toSkip = frame * 2;
+        while (toSkip > 0) {
+            long skipped = stream.skip(toSkip);
+            if (skipped <= 0) {
+                break;
+            }
+            toSkip -= skipped;
+        }
+        streamPosition = frame - toSkip / 2;
+    }
+
+    void close() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            stream = null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package manager;
+
+import java.util.concurrent.RecursiveAction;
+
+// 정수 구간 [from, to)를 반씩 나눠 ForkJoinPool에서 병렬 실행 (남는 작업은 다른 워커가 훔쳐 감)
+class ParallelRange extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    // 구간 하나를 처리하는 작업
+    interface Body {
+        void run(int from, int to);
+    }
+
+    private final int from, to;
+    private final int grain; // 이 크기 이하면 더 나누지 않고 직접 실행
+    private final Body body;
+
+    ParallelRange(int from, int to, int grain, Body body) {
+        this.from = from;
+        this.to = to;
+        this.grain = Math.max(1, grain);
+        this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= grain) {
+            if (to > from) {
+                body.run(from, to);
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new ParallelRange(from, mid, grain, body), new ParallelRange(mid, to, grain, body));
+    }
+}
@@ -0,0 +1,21 @@
+package manager;
+
+import java.util.ArrayList;
+import model.brick.Brick;
+import model.hero.Mario;
+
+// 플레이어 한 명의 충돌 검사 결과: 검사 중에는 공유 오브젝트(적, 블록, 아이템)를 바꾸지 않고 이벤트로 기록해 두었다가
+// 틱 끝에 플레이어 id 순서로 적용 (검사를 병렬로 돌려도 결과가 같음). 틱마다 재사용
+class PlayerContacts {
+
+    Mario player;
+    int playerId;
+    final ArrayList<Brick> nearbyBricks = new ArrayList<>(); // 주변 블록 조회용 작업 리스트
+    final TickEventLog events = new TickEventLog(16); // 적용 전 변경 요청
+
+    void reset(Mario player, int playerId) {
+        this.player = player;
+        this.playerId = playerId;
+        events.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package manager;
+
+import java.io.File;
+import view.ImageLoader;
+
+// 리플레이 재생기: 기록된 입력을 서버 틱과 같은 순서로 MapManager에 넣어 화면 없이 최대 속도로 시뮬레이션 재실행
+// 기록 시점의 상태 해시와 비교해 결정성 회귀를 검출하고, 서버에서 저장한 리플레이로 크래시를 재현할 때 사용
+//
+// 사용법: java -Djava.awt.headless=true -cp ".:src" manager.ReplayPlayer <리플레이 파일>
+public class ReplayPlayer {
+
+    private final InputReplay replay;
+    private MapManager mapManager;
+    private int nextInput; // 다음에 적용할 입력 위치
+    private long elapsedNanos;
+
+    public ReplayPlayer(InputReplay replay) {
+        this.replay = replay;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length != 1) {
+            System.err.println("Usage: manager.ReplayPlayer <replay file>");
+            System.exit(2);
+        }
+
+        InputReplay replay = InputReplay.read(new File(args[0]));
+        System.out.println("[Replay] " + replay.getMapName() + ", seed " + replay.getSeed() + ", "
+                + replay.getEventCount() + " inputs, " + replay.getFinalTick() + " ticks");
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        if (!player.run(new ImageLoader())) {
+            System.exit(2);
+        }
+
+        double seconds = player.getElapsedNanos() / 1e9;
+        double simulatedSeconds = (double) replay.getFinalTick() / MapManager.TICKS_PER_SECOND;
+        System.out.printf("[Replay] Simulated %.1f s in %.3f s (%.0fx real time)%n",
+                simulatedSeconds, seconds, simulatedSeconds / Math.max(seconds, 1e-9));
+
+        if (!replay.hasStateHash()) {
+            System.out.println("[Replay] No state hash recorded (replay saved after a failure)");
+            System.exit(0);
+        }
+        long hash = player.getMapManager().computeStateHash();
+        boolean match = hash == replay.getStateHash();
+        System.out.printf("[Replay] State hash %016x, recorded %016x: %s%n", hash, replay.getStateHash(), match ? "MATCH" : "MISMATCH");
+        System.exit(match ? 0 : 1);
+    }
+
+    // 맵을 만들고 마지막 틱까지 재생 (맵 로드 실패 시 false)
+    public boolean run(ImageLoader loader) {
+        if (!load(loader)) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        while (hasNextTick()) {
+            stepTick();
+        }
+        finish();
+        elapsedNanos = System.nanoTime() - start;
+        return true;
+    }
+
+    // 기록된 맵/시드로 새 MapManager 생성 (틱 단위로 직접 진행할 때는 load → stepTick 반복 → finish)
+    public boolean load(ImageLoader loader) {
+        mapManager = new MapManager(replay.getSeed());
+        nextInput = 0;
+        if (!mapManager.createMap(loader, replay.getMapName())) {
+            System.err.println("[Replay] Failed to load map: " + replay.getMapName());
+            return false;
+        }
+        return true;
+    }
+
+    public boolean hasNextTick() {
+        return mapManager.getTick() < replay.getFinalTick();
+    }
+
+    // 1틱: 이 틱 전에 들어온 입력 적용 → 물리 → 충돌 (RoomSimulation.tick과 같은 순서)
+    public void stepTick() {
+        nextInput = applyInputs(nextInput, mapManager.getTick());
+        mapManager.updateLocations();
+        mapManager.checkCollisions(null);
+    }
+
+    // 마지막 틱 이후(기록 종료 직전)에 들어온 입력 적용
+    public void finish() {
+        nextInput = applyInputs(nextInput, Long.MAX_VALUE);
+    }
+
+    // 재생 결과가 기록 시점의 상태 해시와 같은지 (해시가 없는 리플레이는 항상 true)
+    public boolean matchesRecordedState() {
+        return !replay.hasStateHash() || mapManager.computeStateHash() == replay.getStateHash();
+    }
+
+    // tick 이하로 기록된 입력을 순서대로 적용하고 다음 입력 위치 반환
+    private int applyInputs(int next, long tick) {
+        int count = replay.getEventCount();
+        while (next < count && replay.getTick(next) <= tick) {
+            int playerId = replay.getPlayerId(next);
+            int keyCode = replay.getKeyCode(next);
+            if (keyCode == InputReplay.JOIN) {
+                mapManager.getPlayer(playerId);
+            } else if (keyCode == InputReplay.LEAVE) {
+                mapManager.removePlayer(playerId);
+            } else {
+                mapManager.processInput(playerId, keyCode, replay.isPressed(next), null);
+            }
+            next++;
+        }
+        return next;
+    }
+
+    public MapManager getMapManager() {
+        return mapManager;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,62 @@
+package manager;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+// 사운드 뱅크: 시작 시 모든 효과음을 믹서 포맷의 PCM 샘플로 한 번만 디코딩해 메모리에 보관
+class SoundBank {
+
+    private final short[][] samples = new short[SoundEffect.values().length][]; // [효과음 ordinal] 모노 16비트 샘플
+
+    SoundBank(AudioFormat format) {
+        long start = System.nanoTime();
+        int loaded = 0;
+        for (SoundEffect effect : SoundEffect.values()) {
+            samples[effect.ordinal()] = decode("/media/audio/" + effect.getFileName() + ".wav", format);
+            if (samples[effect.ordinal()] != null) {
+                loaded++;
+            }
+        }
+        System.out.println("[SoundBank] Decoded " + loaded + "/" + samples.length + " effects in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    // 효과음 샘플 (로드 실패 시 null)
+    short[] get(SoundEffect effect) {
+        return samples[effect.ordinal()];
+    }
+
+    // WAV를 읽어 믹서 포맷(모노, 16비트 signed little-endian)으로 변환 후 short 배열로 반환
+    static short[] decode(String path, AudioFormat format) {
+        InputStream audioSrc = SoundBank.class.getResourceAsStream(path);
+        if (audioSrc == null) {
+            System.err.println("[SoundBank] Audio not found: " + path);
+            return null;
+        }
+
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(audioSrc));
+             AudioInputStream converted = format.matches(source.getFormat())
+                     ? source : AudioSystem.getAudioInputStream(format, source)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = converted.read(buffer)) > 0) {
+                bytes.write(buffer, 0, read);
+            }
+
+            byte[] pcm = bytes.toByteArray();
+            short[] result = new short[pcm.length / 2];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (short) ((pcm[i * 2] & 0xFF) | (pcm[i * 2 + 1] << 8));
+            }
+            return result;
+        } catch (Exception e) {
+            System.err.println("[SoundBank] Failed to decode " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
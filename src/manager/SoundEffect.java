@@ -0,0 +1,23 @@
+package manager;
+
+// 효과음 종류: 각 효과음의 WAV 파일 이름 (/media/audio/<이름>.wav)
+public enum SoundEffect {
+    JUMP("jump"),                       // 점프
+    COIN("coin"),                       // 코인 획득
+    FIREBALL("fireball"),               // 파이어볼 발사
+    GAME_OVER("gameOver"),              // 게임 오버
+    STOMP("stomp"),                     // 적 밟기
+    ONE_UP("oneUp"),                    // 1UP
+    SUPER_MUSHROOM("superMushroom"),    // 슈퍼 버섯
+    MARIO_DIES("marioDies");            // 마리오 사망
+
+    private final String fileName;
+
+    SoundEffect(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -1,104 +1,90 @@
 package manager;
 
-import java.io.BufferedInputStream;
-import java.io.InputStream;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-
-// 사운드 관리자: 배경음악과 효과음 재생
+// 사운드 관리자: 배경음악과 효과음 재생 (모두 AudioMixer 스레드에서 하나의 출력 라인으로 섞음)
 public class SoundManager {
 
-    private Clip background; // 배경음악 Clip
-    private long clipTime = 0; // 일시정지 시 재생 위치 저장 (마이크로초)
+    private static final String BACKGROUND_PATH = "/media/audio/background.wav";
+    private static final long BACKGROUND_LOOP_START = 0; // 배경음악 루프 시작 (샘플 프레임)
+    private static final long BACKGROUND_LOOP_END = 0; // 배경음악 루프 끝 (0이면 파일 끝)
+
+    private final AudioMixer mixer; // 효과음 믹서 (자체 스레드에서 재생, 출력 라인 하나를 계속 재사용, 무음이면 null)
+    private final MusicStream background; // 배경음악 스트림 (파일이 없으면 null)
 
     public SoundManager() {
-        background = getClip(loadAudio("background"));
+        mixer = new AudioMixer(new SoundBank(AudioMixer.FORMAT));
+        background = MusicStream.open(BACKGROUND_PATH, AudioMixer.FORMAT, BACKGROUND_LOOP_START, BACKGROUND_LOOP_END);
+        mixer.setMusic(background);
+        mixer.start();
     }
 
-    // /media/audio/ 경로에서 WAV 파일 로드
-    private AudioInputStream loadAudio(String url) {
-        try {
-            InputStream audioSrc = getClass().getResourceAsStream("/media/audio/" + url + ".wav");
-            InputStream bufferedIn = new BufferedInputStream(audioSrc);
-            return AudioSystem.getAudioInputStream(bufferedIn);
-
-        } catch (Exception e) {
-            System.err.println(e.getMessage());
-        }
-
-        return null;
+    // 무음 사운드 관리자 (사운드 로드에 실패해도 게임은 소리 없이 진행)
+    private SoundManager(AudioMixer mixer, MusicStream background) {
+        this.mixer = mixer;
+        this.background = background;
     }
 
-    // AudioInputStream을 Clip으로 변환
-    private Clip getClip(AudioInputStream stream) {
-        try {
-            Clip clip = AudioSystem.getClip();
-            clip.open(stream);
-            return clip;
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        return null;
+    static SoundManager silent() {
+        return new SoundManager(null, null);
     }
 
-    // 배경음악 재개 (저장된 위치부터)
+    // 배경음악 재개 (일시정지한 위치부터)
     public void resumeBackground(){
-        background.setMicrosecondPosition(clipTime);
-        background.start();
+        if (background != null) {
+            background.play();
+        }
     }
 
-    // 배경음악 일시정지 (현재 위치 저장)
+    // 배경음악 일시정지 (재생 위치는 스트림에 유지)
     public void pauseBackground(){
-        clipTime = background.getMicrosecondPosition();
-        background.stop();
+        if (background != null) {
+            background.pause();
+        }
     }
 
     // 배경음악 처음부터 재시작
     public void restartBackground() {
-        clipTime = 0;
-        resumeBackground();
+        if (background != null) {
+            background.restart();
+        }
+    }
+
+    // 효과음 재생 요청을 믹서 큐에 넣고 바로 반환 (물리 코드에서 호출되어도 오디오 장치를 기다리지 않음)
+    private void play(SoundEffect effect) {
+        if (mixer != null) {
+            mixer.play(effect);
+        }
     }
 
     public void playJump() {
-        Clip clip = getClip(loadAudio("jump"));
-        clip.start();
+        play(SoundEffect.JUMP);
     }
 
     public void playCoin() {
-        Clip clip = getClip(loadAudio("coin"));
-        clip.start();
+        play(SoundEffect.COIN);
     }
 
     public void playFireball() {
-        Clip clip = getClip(loadAudio("fireball"));
-        clip.start();
+        play(SoundEffect.FIREBALL);
     }
 
     public void playGameOver() {
-        Clip clip = getClip(loadAudio("gameOver"));
-        clip.start();
+        play(SoundEffect.GAME_OVER);
     }
 
     public void playStomp() {
-        Clip clip = getClip(loadAudio("stomp"));
-        clip.start();
+        play(SoundEffect.STOMP);
     }
 
     public void playOneUp() {
-        Clip clip = getClip(loadAudio("oneUp"));
-        clip.start();
+        play(SoundEffect.ONE_UP);
     }
 
     public void playSuperMushroom() {
-        Clip clip = getClip(loadAudio("superMushroom"));
-        clip.start();
+        play(SoundEffect.SUPER_MUSHROOM);
     }
 
     public void playMarioDies() {
-        Clip clip = getClip(loadAudio("marioDies"));
-        clip.start();
+        play(SoundEffect.MARIO_DIES);
     }
 
     public void playFireFlower() {
@@ -0,0 +1,73 @@
+package manager;
+
+// 틱 이벤트 로그: 한 틱 동안 생긴 게임 상태 변경을 int 배열에 (종류, 플레이어 id, 값 a, 값 b)로 기록
+// 객체를 만들지 않고 배열을 재사용하며, 충돌 검사가 남긴 변경 요청을 적용 단계에서 한 번에 반영하고
+// 반영된 이벤트는 네트워크/효과음/지표에서 상태를 다시 비교하지 않고 그대로 읽을 수 있음
+public class TickEventLog {
+
+    // 이벤트 종류 (a, b의 의미)
+    public static final int ENEMY_KILLED = 1; // a = 적 entityId, b = 0 밟기 / 1 파이어볼 (플레이어 id 0 = 파이어볼)
+    public static final int PRIZE_COLLECTED = 2; // a = 아이템 entityId, b = 1이면 맵에서 제거 (코인은 애니메이션 후 제거)
+    public static final int BRICK_REVEALED = 3; // a, b = 블록 좌표 (x, y)
+    public static final int FIREBALL_EXPIRED = 4; // a = 파이어볼 entityId
+    public static final int POINTS_AWARDED = 5; // a = 점수
+
+    private static final int STRIDE = 4;
+
+    private int[] data;
+    private int size;
+
+    public TickEventLog() {
+        this(64);
+    }
+
+    public TickEventLog(int capacity) {
+        data = new int[Math.max(1, capacity) * STRIDE];
+    }
+
+    public void add(int type, int playerId, int a, int b) {
+        int offset = size * STRIDE;
+        if (offset == data.length) {
+            data = java.util.Arrays.copyOf(data, data.length * 2);
+        }
+        data[offset] = type;
+        data[offset + 1] = playerId;
+        data[offset + 2] = a;
+        data[offset + 3] = b;
+        size++;
+    }
+
+    // 종류와 값 a가 같은 이벤트가 있는지 (한 플레이어의 로그처럼 작은 로그에서만 사용)
+    public boolean contains(int type, int a) {
+        for (int offset = 0; offset < size * STRIDE; offset += STRIDE) {
+            if (data[offset] == type && data[offset + 2] == a) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getType(int index) {
+        return data[index * STRIDE];
+    }
+
+    public int getPlayerId(int index) {
+        return data[index * STRIDE + 1];
+    }
+
+    public int getA(int index) {
+        return data[index * STRIDE + 2];
+    }
+
+    public int getB(int index) {
+        return data[index * STRIDE + 3];
+    }
+}
@@ -0,0 +1,131 @@
+package manager;
+
+import java.util.concurrent.locks.LockSupport;
+
+// 틱 스케줄러: 고정 타임스텝 누산기로 로직 틱 수를 계산하고, 렌더 프레임 간격만큼 대기
+// 한 번에 따라잡는 틱 수에 상한을 두어 GC 멈춤이나 과부하 뒤에 틱이 폭주하지 않게 함 (넘친 틱은 버리고 시간이 느려짐)
+public class TickScheduler {
+
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5; // advance() 한 번에 실행하는 최대 틱 수
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SPIN_THRESHOLD_NANOS = 1_000_000L; // 마지막 1ms는 스핀으로 정밀 대기 (park 해상도 보정)
+
+    private final long tickNanos; // 로직 틱 간격
+    private final int maxCatchUpTicks;
+    private long lastTime; // 마지막 advance() 시각
+    private long accumulator; // 아직 틱으로 소비되지 않은 누적 시간 (ns)
+    private long nextFrameTime; // 다음 렌더 프레임 예정 시각
+
+    // 지표 (reset() 이후 누적)
+    private long startTime;
+    private long executedTicks; // 실행한 틱 수
+    private long lateTicks; // 제때 실행하지 못하고 따라잡기로 실행한 틱 수
+    private long droppedTicks; // 상한을 넘어 버린 틱 수
+    private long lastDropReportTime; // 마지막 경고 출력 시각 (1초에 한 번만 출력)
+
+    public TickScheduler(double ticksPerSecond) {
+        this(ticksPerSecond, DEFAULT_MAX_CATCH_UP_TICKS);
+    }
+
+    public TickScheduler(double ticksPerSecond, int maxCatchUpTicks) {
+        this.tickNanos = (long) (NANOS_PER_SECOND / ticksPerSecond);
+        this.maxCatchUpTicks = Math.max(1, maxCatchUpTicks);
+        reset();
+    }
+
+    // 누산기, 프레임 기준 시각, 지표 초기화
+    public void reset() {
+        lastTime = System.nanoTime();
+        accumulator = 0;
+        nextFrameTime = lastTime;
+        startTime = lastTime;
+        executedTicks = 0;
+        lateTicks = 0;
+        droppedTicks = 0;
+        lastDropReportTime = lastTime - NANOS_PER_SECOND;
+    }
+
+    // 지난 호출 이후 경과 시간을 누산하고 이번에 실행할 로직 틱 수 반환 (최대 maxCatchUpTicks)
+    public int advance() {
+        long now = System.nanoTime();
+        accumulator += now - lastTime;
+        lastTime = now;
+
+        long due = accumulator / tickNanos;
+        accumulator -= due * tickNanos;
+
+        int ticks = (int) Math.min(due, maxCatchUpTicks);
+        if (due > ticks) {
+            droppedTicks += due - ticks;
+            if (now - lastDropReportTime >= NANOS_PER_SECOND) {
+                lastDropReportTime = now;
+                System.out.printf("[TickScheduler] Behind by %d ticks, dropped (total dropped %d, dilation %.3f)%n",
+                        due - ticks, droppedTicks, getTimeDilation());
+            }
+        }
+        if (ticks > 1) {
+            lateTicks += ticks - 1;
+        }
+        executedTicks += ticks;
+        return ticks;
+    }
+
+    // 다음 렌더 프레임까지 대기: 대부분은 parkNanos로 쉬고 마지막 구간만 스핀
+    public void waitForNextFrame(long frameNanos) {
+        nextFrameTime += frameNanos;
+
+        long now = System.nanoTime();
+        if (now - nextFrameTime > frameNanos) {
+            // 한 프레임 이상 밀렸으면 기준을 현재로 당김 (밀린 프레임을 몰아서 그리지 않음)
+            nextFrameTime = now;
+            return;
+        }
+
+        long remaining;
+        while ((remaining = nextFrameTime - System.nanoTime()) > SPIN_THRESHOLD_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+
+        while (nextFrameTime - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // 초당 프레임 수를 프레임 간격(ns)으로 변환
+    public static long frameNanos(int framesPerSecond) {
+        return NANOS_PER_SECOND / framesPerSecond;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    public int getMaxCatchUpTicks() {
+        return maxCatchUpTicks;
+    }
+
+    public long getExecutedTicks() {
+        return executedTicks;
+    }
+
+    public long getLateTicks() {
+        return lateTicks;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    // 시간 팽창률: 시뮬레이션이 진행한 시간 / 실제 경과 시간 (1.0이면 정상, 틱을 버릴수록 1.0 미만)
+    public double getTimeDilation() {
+        long elapsed = lastTime - startTime;
+        if (elapsed <= 0) {
+            return 1.0;
+        }
+        return Math.min(1.0, (double) executedTicks * tickNanos / elapsed);
+    }
+}
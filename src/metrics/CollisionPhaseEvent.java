@@ -0,0 +1,44 @@
+package metrics;
+
+import jdk.jfr.*;
+
+// JFR 이벤트: 충돌 검사 단계 하나 (시작/끝 = 이벤트 구간, 단계 이름은 TickProfiler 구간 이름과 같음)
+@Name("mario.CollisionPhase")
+@Label("Collision Phase")
+@Category({"Super Mario", "Game Loop"})
+@Description("Duration of one collision pass inside MapManager.checkCollisions")
+@StackTrace(false)
+public class CollisionPhaseEvent extends Event {
+
+    @Label("Room")
+    public int roomId;
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Phase")
+    public String phase;
+
+    // 이 이벤트를 기록 중인 JFR 레코딩이 있는지 (확인용 객체는 JIT가 제거)
+    public static boolean isRecording() {
+        return new CollisionPhaseEvent().isEnabled();
+    }
+
+    // 단계 시작 시 호출 (이벤트 구간 시작)
+    public static CollisionPhaseEvent start() {
+        CollisionPhaseEvent event = new CollisionPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    // 단계 끝에 호출: 구간을 끝내고 임계값을 넘으면 기록
+    public void finish(int roomId, long tick, int phase) {
+        end();
+        if (shouldCommit()) {
+            this.roomId = roomId;
+            this.tick = tick;
+            this.phase = TickProfiler.getPhaseName(phase);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 지연 히스토그램 (HdrHistogram 방식): 2의 거듭제곱 구간마다 64칸으로 나눠 상대 오차 약 1.6% 이내로 나노초 값을 기록
+// 기록은 한 스레드(룸 틱)에서만, 읽기와 reset은 어느 스레드에서든 가능 (도중에 기록되면 근사값)
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 7; // 구간마다 유효 비트 수 (값 128 미만은 정확히 기록)
+    private static final int HALF = 1 << (SUB_BITS - 1);
+    private static final int MAX_SHIFT = 40; // 이보다 큰 값(약 2^46ns = 19시간)은 마지막 칸에 기록
+    private static final int BUCKETS = (MAX_SHIFT + 2) * HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private volatile long count;
+    private volatile long total;
+    private volatile long max;
+
+    // 값 하나 기록 (기록 스레드 하나 전용, lazySet으로 메모리 배리어 없이 갱신)
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        int index = indexOf(value);
+        counts.lazySet(index, counts.get(index) + 1);
+        count = count + 1;
+        total = total + value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    // 모든 칸과 합계 초기화 (구간 히스토그램을 다시 쓸 때 읽는 쪽에서 호출)
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.lazySet(i, 0);
+        }
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        long n = count;
+        return n > 0 ? (double) total / n : 0;
+    }
+
+    // 백분위수 (fraction 0.0~1.0): 해당 칸에 들어갈 수 있는 가장 큰 값 (최대값 이하)
+    public long getPercentile(double fraction) {
+        long n = count;
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(fraction * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < (1 << SUB_BITS)) {
+            return (int) value;
+        }
+        int shift = Math.min(MAX_SHIFT, 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1));
+        long sub = Math.min(value >>> shift, (1 << SUB_BITS) - 1);
+        return shift * HALF + (int) sub;
+    }
+
+    private static long highestValueAt(int index) {
+        if (index < (1 << SUB_BITS)) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long sub = index - shift * HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,26 @@
+package metrics;
+
+import jdk.jfr.*;
+
+// JFR 이벤트: 맵 생성 (구간 = MapCreator 실행, 스프라이트 로드 포함)
+@Name("mario.MapLoad")
+@Label("Map Load")
+@Category({"Super Mario", "Lifecycle"})
+@Description("Creating a map from its PNG layout")
+public class MapLoadEvent extends Event {
+
+    @Label("Map")
+    public String mapName;
+
+    @Label("Seed")
+    public long seed;
+
+    @Label("Bricks")
+    public int bricks;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Success")
+    public boolean success;
+}
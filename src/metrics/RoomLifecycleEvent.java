@@ -0,0 +1,44 @@
+package metrics;
+
+import jdk.jfr.*;
+
+// JFR 이벤트: 방 생성/시작/종료/틱 예외
+@Name("mario.RoomLifecycle")
+@Label("Room Lifecycle")
+@Category({"Super Mario", "Lifecycle"})
+@Description("A room was created, started, stopped or had a failing tick")
+@StackTrace(false)
+public class RoomLifecycleEvent extends Event {
+
+    public static final String CREATED = "created";
+    public static final String STARTED = "started";
+    public static final String STOPPED = "stopped";
+    public static final String TICK_FAILED = "tick failed";
+
+    @Label("Room")
+    public int roomId;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Map")
+    public String mapName;
+
+    @Label("Players")
+    public int players;
+
+    @Label("Executed Ticks")
+    public long ticks;
+
+    public static void record(int roomId, String action, String mapName, int players, long ticks) {
+        RoomLifecycleEvent event = new RoomLifecycleEvent();
+        if (event.isEnabled()) {
+            event.roomId = roomId;
+            event.action = action;
+            event.mapName = mapName;
+            event.players = players;
+            event.ticks = ticks;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package metrics;
+
+import jdk.jfr.*;
+
+// JFR 이벤트: 클라이언트별 전송 대기열 길이 (네트워크 계층이 스냅샷을 대기열에 넣을 때 기록)
+@Name("mario.SendQueue")
+@Label("Client Send Queue")
+@Category({"Super Mario", "Network"})
+@Description("Number of messages waiting to be written to one client connection")
+@StackTrace(false)
+public class SendQueueEvent extends Event {
+
+    @Label("Room")
+    public int roomId;
+
+    @Label("Player")
+    public int playerId;
+
+    @Label("Queued Messages")
+    public int depth;
+
+    public static void record(int roomId, int playerId, int depth) {
+        SendQueueEvent event = new SendQueueEvent();
+        if (event.isEnabled()) {
+            event.roomId = roomId;
+            event.playerId = playerId;
+            event.depth = depth;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package metrics;
+
+import jdk.jfr.*;
+
+// JFR 이벤트: 스냅샷 수집 (구간 = collectGameState, 오브젝트 수). 직렬화 크기는 네트워크 계층이 SnapshotSizeEvent로 기록
+@Name("mario.Snapshot")
+@Label("Game State Snapshot")
+@Category({"Super Mario", "Network"})
+@Description("A GameStateMessage collected for broadcast, with its object counts")
+@StackTrace(false)
+public class SnapshotEvent extends Event {
+
+    @Label("Room")
+    public int roomId;
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Players")
+    public int players;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Items")
+    public int items;
+
+    @Label("Fireballs")
+    public int fireballs;
+
+    @Label("Bricks")
+    public int bricks;
+}
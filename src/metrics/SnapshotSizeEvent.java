@@ -0,0 +1,32 @@
+package metrics;
+
+import jdk.jfr.*;
+
+// JFR 이벤트: 인코딩한 스냅샷 크기 (네트워크 계층이 실제로 직렬화한 뒤 기록, 룸 틱에서는 직렬화하지 않음)
+@Name("mario.SnapshotSize")
+@Label("Snapshot Size")
+@Category({"Super Mario", "Network"})
+@Description("Encoded size of one GameStateMessage as written by the network layer")
+@StackTrace(false)
+public class SnapshotSizeEvent extends Event {
+
+    @Label("Room")
+    public int roomId;
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Encoded Size")
+    @DataAmount
+    public long encodedBytes;
+
+    public static void record(int roomId, long tick, long encodedBytes) {
+        SnapshotSizeEvent event = new SnapshotSizeEvent();
+        if (event.isEnabled()) {
+            event.roomId = roomId;
+            event.tick = tick;
+            event.encodedBytes = encodedBytes;
+            event.commit();
+        }
+    }
+}
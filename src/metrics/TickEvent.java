@@ -0,0 +1,27 @@
+package metrics;
+
+import jdk.jfr.*;
+
+// JFR 이벤트: 룸 틱 하나 (시작/끝 = 이벤트 구간). GC/락 경합 이벤트와 같은 타임라인에서 느린 틱을 찾을 때 사용
+@Name("mario.Tick")
+@Label("Room Tick")
+@Category({"Super Mario", "Game Loop"})
+@Description("One 60 Hz simulation tick of a room: input apply, physics, collisions, camera and snapshot")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+    @Label("Room")
+    public int roomId;
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Inputs Applied")
+    public int inputs;
+
+    @Label("Players")
+    public int players;
+
+    @Label("Snapshot Published")
+    public boolean snapshot;
+}
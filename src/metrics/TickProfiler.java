@@ -0,0 +1,128 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 룸 틱 구간별 프로파일러: 입력 적용, 물리, 충돌 검사 단계별, 스냅샷 수집, 인코딩, 전송, 틱 전체 시간을 히스토그램으로 기록
+// 꺼져 있으면(측정 엔드포인트가 없을 때) 호출하는 쪽이 System.nanoTime()도 부르지 않으므로 비용은 플래그 확인 한 번
+// 백분위수는 구간 히스토그램(마지막으로 읽은 뒤부터의 값)으로, 횟수와 합계는 누적으로 제공
+public class TickProfiler {
+
+    public static final int INPUT = 0;
+    public static final int PHYSICS = 1;
+    public static final int COLLISION_PLAYERS = 2;
+    public static final int COLLISION_ENEMIES = 3;
+    public static final int COLLISION_COMMIT = 4;
+    public static final int COLLISION_PRIZES = 5;
+    public static final int COLLISION_FIREBALLS = 6;
+    public static final int SNAPSHOT = 7;
+    public static final int ENCODE = 8; // 네트워크 계층이 기록 (스냅샷 직렬화)
+    public static final int BROADCAST = 9; // 네트워크 계층이 기록 (클라이언트 전송)
+    public static final int TICK = 10;
+
+    private static final String[] PHASE_NAMES = {
+        "input", "physics", "collision_players", "collision_enemies", "collision_commit",
+        "collision_prizes", "collision_fireballs", "snapshot", "encode", "broadcast", "tick"
+    };
+
+    private final AtomicReferenceArray<LatencyHistogram> phases = new AtomicReferenceArray<>(PHASE_NAMES.length); // 지금 기록 중인 구간 히스토그램
+    private final LatencyHistogram[] spares = new LatencyHistogram[PHASE_NAMES.length]; // 마지막으로 읽어 간 히스토그램 (다음 교체 때 재사용)
+    private final AtomicLongArray counts = new AtomicLongArray(PHASE_NAMES.length); // 누적 횟수
+    private final AtomicLongArray totals = new AtomicLongArray(PHASE_NAMES.length); // 누적 합계 (나노초)
+    private final AtomicLong bytesSent = new AtomicLong();
+    private volatile boolean enabled;
+    private volatile int players, enemies, prizes, fireballs; // 마지막 스냅샷 시점의 오브젝트 수
+
+    public TickProfiler() {
+        for (int i = 0; i < PHASE_NAMES.length; i++) {
+            phases.set(i, new LatencyHistogram());
+        }
+    }
+
+    public static int getPhaseCount() {
+        return PHASE_NAMES.length;
+    }
+
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // 구간 소요 시간 기록 (룸 틱 스레드 전용)
+    public void record(int phase, long nanos) {
+        phases.get(phase).record(nanos);
+        counts.lazySet(phase, counts.get(phase) + 1);
+        totals.lazySet(phase, totals.get(phase) + nanos);
+    }
+
+    // start부터 지금까지를 phase로 기록하고 현재 시각 반환 (다음 구간의 시작)
+    public long lap(int phase, long start) {
+        long now = System.nanoTime();
+        record(phase, now - start);
+        return now;
+    }
+
+    // 지난번 호출 이후 기록된 값의 히스토그램을 떼어 내고 빈 히스토그램으로 교체 (측정 엔드포인트 요청마다 호출)
+    // 반환한 히스토그램은 같은 구간의 다음 호출 전까지 유효 (그때 비우고 다시 기록용으로 씀)
+    public synchronized LatencyHistogram takeInterval(int phase) {
+        LatencyHistogram next = spares[phase];
+        if (next == null) {
+            next = new LatencyHistogram();
+        } else {
+            next.reset();
+        }
+        LatencyHistogram previous = phases.getAndSet(phase, next);
+        spares[phase] = previous;
+        return previous;
+    }
+
+    // 측정을 켠 뒤 누적 횟수
+    public long getCount(int phase) {
+        return counts.get(phase);
+    }
+
+    // 측정을 켠 뒤 누적 시간 (나노초)
+    public long getTotal(int phase) {
+        return totals.get(phase);
+    }
+
+    // 전송한 바이트 수 누적 (네트워크 스레드에서 호출 가능)
+    public void addBytesSent(long bytes) {
+        bytesSent.addAndGet(bytes);
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public void setEntityCounts(int players, int enemies, int prizes, int fireballs) {
+        this.players = players;
+        this.enemies = enemies;
+        this.prizes = prizes;
+        this.fireballs = fireballs;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public int getEnemies() {
+        return enemies;
+    }
+
+    public int getPrizes() {
+        return prizes;
+    }
+
+    public int getFireballs() {
+        return fireballs;
+    }
+}
@@ -0,0 +1,75 @@
+package model;
+
+import java.util.ArrayList;
+import model.brick.Brick;
+
+// 블록 공간 인덱스: 블록을 왼쪽 x 좌표 기준 48px 열에 나눠 담아, 오브젝트 주변 열의 블록만 검사하게 함
+// 블록은 추가/제거 때만 갱신. 부서지는 블록(OrdinaryBrick)은 애니메이션 동안 왼쪽으로 한 칸 미만 이동하므로
+// 조회 시 오른쪽으로 한 열 더 보고, 제거 시 원래 열(현재 열 또는 그 오른쪽)에서 찾음
+public class BrickGrid {
+
+    public static final int CELL_SIZE = 48; // 맵 픽셀 1칸 크기
+
+    private final ArrayList<ArrayList<Brick>> columns = new ArrayList<>();
+    private int maxBrickWidth = CELL_SIZE; // 가장 넓은 블록 (파이프 96px), 왼쪽 열에서 이만큼 더 찾아야 함
+    private int size;
+
+    public void add(Brick brick) {
+        int column = columnOf(brick.getX());
+        while (columns.size() <= column) {
+            columns.add(new ArrayList<>());
+        }
+        columns.get(column).add(brick);
+        maxBrickWidth = Math.max(maxBrickWidth, brick.getDimension().width);
+        size++;
+    }
+
+    public void remove(Brick brick) {
+        int column = columnOf(brick.getX());
+        for (int c = column; c <= column + 1 && c < columns.size(); c++) {
+            if (columns.get(c).remove(brick)) {
+                size--;
+                return;
+            }
+        }
+    }
+
+    // 좌표 (x, y)에 있는 블록 (없으면 null)
+    public Brick find(int x, int y) {
+        int column = columnOf(x);
+        if (column >= columns.size()) {
+            return null;
+        }
+        ArrayList<Brick> bricks = columns.get(column);
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
+            if ((int) brick.getX() == x && (int) brick.getY() == y) {
+                return brick;
+            }
+        }
+        return null;
+    }
+
+    // x 범위 [minX, maxX]와 겹칠 수 있는 블록을 out에 추가 (왼쪽 열부터, 열 안에서는 추가된 순서)
+    public void collect(double minX, double maxX, ArrayList<Brick> out) {
+        int first = Math.max(0, columnOf(minX - maxBrickWidth));
+        int last = Math.min(columns.size() - 1, columnOf(maxX) + 1);
+        for (int c = first; c <= last; c++) {
+            ArrayList<Brick> column = columns.get(c);
+            for (int i = 0; i < column.size(); i++) {
+                Brick brick = column.get(i);
+                if (brick.getX() + brick.getDimension().width >= minX && brick.getX() <= maxX) {
+                    out.add(brick);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int columnOf(double x) {
+        return Math.max(0, (int) Math.floor(x / CELL_SIZE));
+    }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+// 엔티티 리스트: 원소는 조밀한 배열에 두어 순회가 빠르고, 슬롯 배열 + 프리 리스트로 안정적인 ID를 발급
+// ID = (세대 << SLOT_BITS) | 슬롯. 제거된 슬롯은 세대가 올라가므로 옛 ID로는 새 오브젝트를 찾을 수 없음
+// remove(Object)/getById는 O(1) (마지막 원소를 빈 자리로 옮기므로 제거 시 순서가 바뀜)
+// 한 오브젝트는 EntityList 하나에만 들어갈 수 있음
+public class EntityList<T> extends AbstractList<T> implements RandomAccess {
+
+    public static final int NO_ID = -1; // 리스트에 없는 오브젝트의 ID
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1; // ID가 음수가 되지 않게 11비트
+
+    private Object[] elements = new Object[16]; // 조밀한 배열 (0 ~ size-1)
+    private int[] denseSlot = new int[16]; // 조밀한 인덱스 → 슬롯
+    private int size;
+
+    private int[] slotIndex = new int[16]; // 슬롯 → 조밀한 인덱스 (빈 슬롯이면 다음 빈 슬롯 번호)
+    private int[] slotGeneration = new int[16];
+    private int slotCount; // 한 번이라도 사용된 슬롯 수
+    private int freeSlot = -1; // 프리 리스트 머리 (-1이면 없음)
+
+    @Override
+    public boolean add(T element) {
+        GameObject object = (GameObject) element;
+        if (contains(object)) {
+            throw new IllegalStateException("Already in an EntityList: " + element);
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+            denseSlot = Arrays.copyOf(denseSlot, size * 2);
+        }
+
+        int slot = allocateSlot();
+        slotIndex[slot] = size;
+        denseSlot[size] = slot;
+        elements[size++] = element;
+        object.setEntityId((slotGeneration[slot] << SLOT_BITS) | slot);
+        modCount++;
+        return true;
+    }
+
+    // 프리 리스트에서 슬롯을 꺼내고, 없으면 새 슬롯 사용
+    private int allocateSlot() {
+        if (freeSlot >= 0) {
+            int slot = freeSlot;
+            freeSlot = slotIndex[slot];
+            return slot;
+        }
+        if (slotCount == slotIndex.length) {
+            if (slotCount > SLOT_MASK) {
+                throw new IllegalStateException("Too many entities");
+            }
+            slotIndex = Arrays.copyOf(slotIndex, slotCount * 2);
+            slotGeneration = Arrays.copyOf(slotGeneration, slotCount * 2);
+        }
+        return slotCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) elements[index];
+    }
+
+    // ID로 오브젝트 찾기 (제거되었거나 다른 리스트의 ID면 null)
+    @SuppressWarnings("unchecked")
+    public T getById(int id) {
+        int index = indexOfId(id);
+        return index >= 0 ? (T) elements[index] : null;
+    }
+
+    // ID가 가리키는 조밀한 인덱스 (유효하지 않은 ID면 -1)
+    private int indexOfId(int id) {
+        if (id < 0) {
+            return -1;
+        }
+        int slot = id & SLOT_MASK;
+        if (slot >= slotCount || slotGeneration[slot] != id >>> SLOT_BITS) {
+            return -1;
+        }
+        int index = slotIndex[slot];
+        return index >= 0 && index < size && denseSlot[index] == slot ? index : -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // index 자리에 마지막 원소를 옮겨 넣고 제거, 슬롯은 세대를 올려 프리 리스트로 반납 (O(1))
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        int slot = denseSlot[index];
+        int last = --size;
+        if (index != last) {
+            elements[index] = elements[last];
+            denseSlot[index] = denseSlot[last];
+            slotIndex[denseSlot[index]] = index;
+        }
+        elements[last] = null;
+
+        slotGeneration[slot] = (slotGeneration[slot] + 1) & GENERATION_MASK;
+        slotIndex[slot] = freeSlot;
+        freeSlot = slot;
+
+        ((GameObject) removed).setEntityId(NO_ID);
+        modCount++;
+        return removed;
+    }
+
+    // 오브젝트에 저장된 ID로 바로 제거 (리스트에 없으면 false)
+    @Override
+    public boolean remove(Object object) {
+        if (!contains(object)) {
+            return false;
+        }
+        remove(indexOfId(((GameObject) object).getEntityId()));
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof GameObject)) {
+            return false;
+        }
+        int index = indexOfId(((GameObject) object).getEntityId());
+        return index >= 0 && elements[index] == object;
+    }
+
+    @Override
+    public void clear() {
+        while (size > 0) {
+            remove(size - 1);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package model;
+
+// 엔티티 풀: 제거된 오브젝트를 보관했다가 재사용 (생성/GC 부담이 큰 단명 오브젝트용, 단일 스레드 전용)
+public class EntityPool<T> {
+
+    private Object[] free;
+    private int count;
+
+    public EntityPool(int capacity) {
+        free = new Object[capacity];
+    }
+
+    // 보관 중인 오브젝트 하나 반환 (없으면 null, 호출자가 새로 생성)
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (count == 0) {
+            return null;
+        }
+        T object = (T) free[--count];
+        free[count] = null;
+        return object;
+    }
+
+    // 다 쓴 오브젝트 반납 (풀이 가득 차면 버림)
+    public void release(T object) {
+        if (count < free.length) {
+            free[count++] = object;
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+}
@@ -12,6 +12,7 @@ public abstract class GameObject {
     private BufferedImage style; // 스프라이트 이미지
     private double gravityAcc; // 중력 가속도 (0.38)
     private boolean falling, jumping; // 물리 상태
+    private int entityId = EntityList.NO_ID; // EntityList가 발급한 ID (네트워크에서 오브젝트 식별용, 리스트에 없으면 -1)
 
     public GameObject(double x, double y, BufferedImage style){
         setLocation(x, y);
@@ -142,6 +143,14 @@ public abstract class GameObject {
         return new Rectangle((int)x, (int)y, dimension.width, dimension.height);
     }
 
+    public int getEntityId() {
+        return entityId;
+    }
+
+    void setEntityId(int entityId) {
+        this.entityId = entityId;
+    }
+
     public boolean isFalling() {
         return falling;
     }
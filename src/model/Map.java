@@ -19,14 +19,17 @@ public class Map {
     private double remainingTime; // 남은 시간 (초)
     private Mario mario;
     private ArrayList<Brick> bricks = new ArrayList<>();
-    private ArrayList<Enemy> enemies = new ArrayList<>();
+    private EntityList<Enemy> enemies = new EntityList<>();
     private ArrayList<Brick> groundBricks = new ArrayList<>();
-    private ArrayList<Prize> revealedPrizes = new ArrayList<>(); // 물음표 블록에서 나온 아이템
+    private BrickGrid brickGrid = new BrickGrid(); // bricks + groundBricks의 열 인덱스 (충돌 검사용)
+    private EntityList<Prize> revealedPrizes = new EntityList<>(); // 물음표 블록에서 나온 아이템
     private ArrayList<Brick> revealedBricks = new ArrayList<>(); // 부서지는 블록
-    private ArrayList<Fireball> fireballs = new ArrayList<>();
+    private EntityList<Fireball> fireballs = new EntityList<>();
+    private EntityPool<Fireball> fireballPool = new EntityPool<>(32); // 제거된 파이어볼 재사용
     private EndFlag endPoint; // 깃발
     private BufferedImage backgroundImage;
     private double bottomBorder = 720 - 96; // 화면 하단 경계
+    private double width; // 맵 가로 길이 (게임 단위, 0이면 제한 없음)
     private String path;
 
     public Map(double remainingTime, BufferedImage backgroundImage) {
@@ -42,15 +45,15 @@ public class Map {
         this.mario = mario;
     }
 
-    public ArrayList<Enemy> getEnemies() {
+    public EntityList<Enemy> getEnemies() {
         return enemies;
     }
 
-    public ArrayList<Fireball> getFireballs() {
+    public EntityList<Fireball> getFireballs() {
         return fireballs;
     }
 
-    public ArrayList<Prize> getRevealedPrizes() {
+    public EntityList<Prize> getRevealedPrizes() {
         return revealedPrizes;
     }
 
@@ -61,12 +64,18 @@ public class Map {
         return allBricks;
     }
 
+    public BrickGrid getBrickGrid() {
+        return brickGrid;
+    }
+
     public void addBrick(Brick brick) {
         this.bricks.add(brick);
+        brickGrid.add(brick);
     }
 
     public void addGroundBrick(Brick brick) {
         this.groundBricks.add(brick);
+        brickGrid.add(brick);
     }
 
     public void addEnemy(Enemy enemy) {
@@ -143,22 +152,31 @@ public class Map {
             enemy.updateLocation();
         }
 
-        // 코인 애니메이션 업데이트 및 제거
-        for(Iterator<Prize> prizeIterator = revealedPrizes.iterator(); prizeIterator.hasNext();){
-            Prize prize = prizeIterator.next();
+        // 코인 애니메이션 업데이트 및 제거 (제거 시 마지막 원소가 현재 자리로 오므로 인덱스를 그대로 다시 검사)
+        for(int i = 0; i < revealedPrizes.size();){
+            Prize prize = revealedPrizes.get(i);
             if(prize instanceof Coin){
                 ((Coin) prize).updateLocation();
                 if(((Coin) prize).getRevealBoundary() > ((Coin) prize).getY()){
-                    prizeIterator.remove();
+                    revealedPrizes.remove(i);
+                    continue;
                 }
             }
             else if(prize instanceof BoostItem){
                 ((BoostItem) prize).updateLocation();
             }
+            i++;
         }
 
-        for (Fireball fireball: fireballs) {
+        // 파이어볼 이동, 맵 밖으로 나간 파이어볼은 제거해서 풀에 반납
+        for(int i = 0; i < fireballs.size();){
+            Fireball fireball = fireballs.get(i);
             fireball.updateLocation();
+            if(fireball.getX() + fireball.getDimension().width < 0 || (width > 0 && fireball.getX() > width)){
+                removeFireball(fireball);
+                continue;
+            }
+            i++;
         }
 
         // 부서지는 블록 애니메이션 업데이트
@@ -167,6 +185,7 @@ public class Map {
             brick.animate();
             if(brick.getFrames() < 0){
                 bricks.remove(brick);
+                brickGrid.remove(brick);
                 brickIterator.remove();
             }
         }
@@ -174,6 +193,14 @@ public class Map {
         endPoint.updateLocation();
     }
 
+    public double getWidth() {
+        return width;
+    }
+
+    public void setWidth(double width) {
+        this.width = width;
+    }
+
     public double getBottomBorder() {
         return bottomBorder;
     }
@@ -182,8 +209,16 @@ public class Map {
         revealedPrizes.add(prize);
     }
 
-    public void addFireball(Fireball fireball) {
+    // 파이어볼 추가 (풀에 남은 파이어볼이 있으면 재사용)
+    public Fireball addFireball(double x, double y, BufferedImage style, boolean toRight) {
+        Fireball fireball = fireballPool.acquire();
+        if (fireball == null) {
+            fireball = new Fireball(x, y, style, toRight);
+        } else {
+            fireball.reset(x, y, toRight);
+        }
         fireballs.add(fireball);
+        return fireball;
     }
 
     public void setEndPoint(EndFlag endPoint) {
@@ -198,16 +233,33 @@ public class Map {
         revealedBricks.add(ordinaryBrick);
     }
 
+    // 파이어볼 제거 후 풀에 반납 (같은 틱에 두 번 제거 요청이 와도 한 번만 반납)
     public void removeFireball(Fireball object) {
-        fireballs.remove(object);
+        if (fireballs.remove(object)) {
+            fireballPool.release(object);
+        }
+    }
+
+    // ID로 오브젝트 찾기 (이미 제거된 오브젝트의 ID면 null)
+    public Enemy getEnemy(int entityId) {
+        return enemies.getById(entityId);
+    }
+
+    public Fireball getFireball(int entityId) {
+        return fireballs.getById(entityId);
+    }
+
+    public Prize getRevealedPrize(int entityId) {
+        return revealedPrizes.getById(entityId);
     }
 
-    public void removeEnemy(Enemy object) {
-        enemies.remove(object);
+    // 적 제거 (이미 제거된 적이면 false)
+    public boolean removeEnemy(Enemy object) {
+        return enemies.remove(object);
     }
 
-    public void removePrize(Prize object) {
-        revealedPrizes.remove(object);
+    public boolean removePrize(Prize object) {
+        return revealedPrizes.remove(object);
     }
 
     public String getPath() {
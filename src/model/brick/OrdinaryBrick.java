@@ -26,9 +26,7 @@ public class OrdinaryBrick extends Brick {
 
     private void ensureAnimationLoaded(){
         if (!animationLoaded) {
-            ImageLoader imageLoader = new ImageLoader();
-            BufferedImage[] leftFrames = imageLoader.getBrickFrames();
-            animation = new Animation(leftFrames, leftFrames);
+            animation = new Animation(new ImageLoader().getBrickFrames());
             if (animation != null && animation.getLeftFrames() != null) {
                 frames = animation.getLeftFrames().length;
             }
@@ -9,8 +9,15 @@ public class Fireball extends GameObject {
     public Fireball(double x, double y, BufferedImage style, boolean toRight) {
         super(x, y, style);
         setDimension(24, 24);
+        reset(x, y, toRight);
+    }
+
+    // 발사 상태로 초기화 (풀에서 꺼낸 파이어볼 재사용 시에도 호출)
+    public void reset(double x, double y, boolean toRight) {
+        setLocation(x, y);
         setFalling(false);
         setJumping(false);
+        setVelY(0);
         setVelX(10);
 
         if(!toRight)
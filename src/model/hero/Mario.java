@@ -5,16 +5,21 @@ import java.awt.image.BufferedImage;
 import manager.Camera;
 import manager.GameEngine;
 import model.GameObject;
+import model.Map;
 
 // 마리오 캐릭터: 위치, 속도, 폼 변환, 생명 관리, 충돌 처리
 public class Mario extends GameObject{
 
+    public static final int DAMAGE_INVINCIBILITY_TICKS = 120; // 피격 후 무적 시간 (60Hz 틱, 2초)
+
     private int remainingLives; // 남은 생명 (0이면 게임 오버)
     private int coins; // 획득한 코인 수
     private int points; // 현재 점수
     private double invincibilityTimer; // 별 아이템 무적 시간 (초)
-    private double damageInvincibilityTimer; // 피격 후 무적 시간 (초)
-    private MarioForm marioForm; // 현재 폼 상태 (Small/Super/Fire)
+    private int damageInvincibilityTicks; // 남은 피격 무적 시간 (틱)
+    private MarioForm marioForm; // 현재 폼 상태 (Small/Super/Fire, 공유 객체)
+    private view.Animation animation; // 애니메이션 재생 위치 (이미지 없이 생성하면 null)
+    private view.ImageLoader imageLoader;
     private boolean toRight = true; // 바라보는 방향
 
     public Mario(double x, double y){
@@ -29,13 +34,13 @@ public class Mario extends GameObject{
         points = 0;
         coins = 0;
         invincibilityTimer = 0;
-        damageInvincibilityTimer = 0;
+        damageInvincibilityTicks = 0;
 
+        this.imageLoader = imageLoader;
+        marioForm = MarioForm.SMALL_FORM;
         if (imageLoader != null) {
-            view.Animation animation = new view.Animation(imageLoader.getLeftFrames(1), imageLoader.getRightFrames(1));
-            marioForm = new MarioForm(animation, false, false, imageLoader);
-        } else {
-            marioForm = new MarioForm(null, false, false);
+            // 시작 시에는 Super 프레임 세트로 그림 (기존 동작 유지)
+            animation = new view.Animation(imageLoader.getMarioFrames(MarioForm.SUPER));
         }
         setStyle(null);
     }
@@ -45,7 +50,7 @@ public class Mario extends GameObject{
         boolean movingInX = (getVelX() != 0);
         boolean movingInY = (getVelY() != 0);
 
-        BufferedImage currentStyle = marioForm.getCurrentStyle(toRight, movingInX, movingInY);
+        BufferedImage currentStyle = marioForm.getCurrentStyle(animation, toRight, movingInX, movingInY);
         
         if (currentStyle == null) {
             System.out.println("[MARIO] Style is NULL! Animation not initialized.");
@@ -86,17 +91,17 @@ public class Mario extends GameObject{
 
         if(!marioForm.isSuper() && !marioForm.isFire()){
             remainingLives--;
-            damageInvincibilityTimer = 2.0; // 2초 피격 무적
+            damageInvincibilityTicks = DAMAGE_INVINCIBILITY_TICKS;
             if (engine != null) {
                 engine.playMarioDies();
             }
             return true; // 마리오 사망
         }
         else{
-            damageInvincibilityTimer = 2.0; // 2초 피격 무적
+            damageInvincibilityTicks = DAMAGE_INVINCIBILITY_TICKS;
             if (engine != null) {
                 engine.shakeCamera();
-                marioForm = marioForm.onTouchEnemy(engine.getImageLoader());
+                setMarioForm(marioForm.onTouchEnemy());
             }
             setDimension(48, 48);
             return false; // 마리오 생존
@@ -104,8 +109,8 @@ public class Mario extends GameObject{
     }
 
     // 파이어볼 발사 (파이어 폼일 때만 가능)
-    public Fireball fire(){
-        return marioForm.fire(toRight, getX(), getY());
+    public Fireball fire(Map map){
+        return marioForm.fire(map, toRight, getX(), getY());
     }
 
     public void acquireCoin() {
@@ -136,8 +141,12 @@ public class Mario extends GameObject{
         return marioForm;
     }
 
+    // 폼 변환: 공유 폼과 프레임 세트로 교체만 하고 새 객체를 만들지 않음
     public void setMarioForm(MarioForm marioForm) {
         this.marioForm = marioForm;
+        if (animation != null) {
+            animation.setFrames(marioForm.getFrames(imageLoader));
+        }
     }
 
     public boolean isSuper() {
@@ -148,25 +157,22 @@ public class Mario extends GameObject{
         return toRight;
     }
 
-    public double getDamageInvincibilityTimer() {
-        return damageInvincibilityTimer;
+    public int getDamageInvincibilityTicks() {
+        return damageInvincibilityTicks;
     }
 
-    public void setDamageInvincibilityTimer(double time) {
-        this.damageInvincibilityTimer = time;
+    public void setDamageInvincibilityTicks(int ticks) {
+        this.damageInvincibilityTicks = ticks;
     }
 
     public boolean isDamageInvincible() {
-        return damageInvincibilityTimer > 0;
+        return damageInvincibilityTicks > 0;
     }
 
-    // 피격 무적 타이머 감소 (서버에서 매 프레임 호출)
-    public void updateDamageInvincibility(double delta) {
-        if (damageInvincibilityTimer > 0) {
-            damageInvincibilityTimer -= delta;
-            if (damageInvincibilityTimer < 0) {
-                damageInvincibilityTimer = 0;
-            }
+    // 피격 무적 시간 1틱 감소 (시뮬레이션 틱마다 호출)
+    public void updateDamageInvincibility() {
+        if (damageInvincibilityTicks > 0) {
+            damageInvincibilityTicks--;
         }
     }
 
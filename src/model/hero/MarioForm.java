@@ -1,39 +1,40 @@
 package model.hero;
 
 import java.awt.image.BufferedImage;
+import model.Map;
 import view.Animation;
+import view.FrameSet;
 import view.ImageLoader;
 
 // 마리오 폼 상태 관리: Small, Super, Fire
+// 폼은 상태가 없는 공유 객체(플라이웨이트)이고, 애니메이션 재생 위치는 각 Mario의 Animation이 가짐
 public class MarioForm {
 
     public static final int SMALL = 0, SUPER = 1, FIRE = 2;
 
-    private Animation animation;
-    private boolean isSuper, isFire;
-    private BufferedImage fireballStyle;
+    public static final MarioForm SMALL_FORM = new MarioForm(SMALL, false, false);
+    public static final MarioForm SUPER_FORM = new MarioForm(SUPER, true, false);
+    public static final MarioForm FIRE_FORM = new MarioForm(FIRE, true, true);
 
-    public MarioForm(Animation animation, boolean isSuper, boolean isFire){
-        this(animation, isSuper, isFire, null);
-    }
+    private static BufferedImage fireballStyle; // 모든 Fire 마리오가 공유하는 파이어볼 스프라이트
+
+    private final int frameIndex; // ImageLoader.getMarioFrames 인덱스
+    private final boolean isSuper, isFire;
 
-    public MarioForm(Animation animation, boolean isSuper, boolean isFire, ImageLoader imageLoader){
-        this.animation = animation;
+    private MarioForm(int frameIndex, boolean isSuper, boolean isFire){
+        this.frameIndex = frameIndex;
         this.isSuper = isSuper;
         this.isFire = isFire;
+    }
 
-        if (animation != null) {
-            if (imageLoader == null) {
-                imageLoader = new ImageLoader();
-            }
-            BufferedImage fireball = imageLoader.loadImage("/sprite.png");
-            fireballStyle = imageLoader.getSubImage(fireball, 3, 4, 24, 24);
-        }
+    // 이 폼의 공유 프레임 세트
+    public FrameSet getFrames(ImageLoader imageLoader) {
+        return imageLoader.getMarioFrames(frameIndex);
     }
 
     // 현재 상태에 맞는 스프라이트 반환: 방향, 이동, 점프 고려
-    public BufferedImage getCurrentStyle(boolean toRight, boolean movingInX, boolean movingInY){
-        if (animation == null) {
+    public BufferedImage getCurrentStyle(Animation animation, boolean toRight, boolean movingInX, boolean movingInY){
+        if (animation == null || animation.getRightFrames() == null) {
             return null;
         }
 
@@ -60,37 +61,33 @@ public class MarioForm {
     }
 
     // 적과 충돌 시 폼 변환: Fire → Super → Small
-    public MarioForm onTouchEnemy(ImageLoader imageLoader) {
+    public MarioForm onTouchEnemy() {
         if (isFire) {
-            Animation superAnimation = new Animation(
-                imageLoader.getRightFrames(1),
-                imageLoader.getLeftFrames(1)
-            );
-            return new MarioForm(superAnimation, true, false, imageLoader);
+            return SUPER_FORM;
         } else if (isSuper) {
-            Animation smallAnimation = new Animation(
-                imageLoader.getRightFrames(0),
-                imageLoader.getLeftFrames(0)
-            );
-            return new MarioForm(smallAnimation, false, false, imageLoader);
+            return SMALL_FORM;
         }
         return this;
     }
 
-    // 파이어볼 발사 (Fire Mario만 가능)
-    public Fireball fire(boolean toRight, double x, double y) {
+    // 파이어볼 발사 (Fire Mario만 가능, 파이어볼은 맵의 풀에서 꺼냄)
+    public Fireball fire(Map map, boolean toRight, double x, double y) {
         if(isFire){
-            return new Fireball(x, y + 48, fireballStyle, toRight);
+            return map.addFireball(x, y + 48, getFireballStyle(), toRight);
         }
         return null;
     }
 
-    public boolean isSuper() {
-        return isSuper;
+    private static synchronized BufferedImage getFireballStyle() {
+        if (fireballStyle == null) {
+            ImageLoader imageLoader = new ImageLoader();
+            fireballStyle = imageLoader.getSubImage(imageLoader.loadImage("/sprite.png"), 3, 4, 24, 24);
+        }
+        return fireballStyle;
     }
 
-    public void setSuper(boolean aSuper) {
-        isSuper = aSuper;
+    public boolean isSuper() {
+        return isSuper;
     }
 
     public boolean isFire() {
@@ -58,6 +58,10 @@ public class Coin extends GameObject implements Prize{
         }
     }
 
+    public boolean isAcquired() {
+        return acquired;
+    }
+
     public int getRevealBoundary() {
         return revealBoundary;
     }
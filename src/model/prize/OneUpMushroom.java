@@ -16,6 +16,8 @@ public class OneUpMushroom extends BoostItem{
     public void onTouch(Mario mario, GameEngine engine) {
         mario.acquirePoints(getPoint());
         mario.setRemainingLives(mario.getRemainingLives() + 1);
-        engine.playOneUp();
+        if (engine != null) {
+            engine.playOneUp();
+        }
     }
 }
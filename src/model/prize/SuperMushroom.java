@@ -3,8 +3,6 @@ package model.prize;
 import manager.GameEngine;
 import model.hero.Mario;
 import model.hero.MarioForm;
-import view.Animation;
-import view.ImageLoader;
 
 import java.awt.image.BufferedImage;
 
@@ -20,13 +18,7 @@ public class SuperMushroom extends BoostItem{
         mario.acquirePoints(getPoint());
 
         if(!mario.getMarioForm().isSuper() && engine != null){
-            ImageLoader imageLoader = engine.getImageLoader();
-            BufferedImage[] leftFrames = imageLoader.getLeftFrames(MarioForm.SUPER);
-            BufferedImage[] rightFrames = imageLoader.getRightFrames(MarioForm.SUPER);
-
-            Animation animation = new Animation(leftFrames, rightFrames);
-            MarioForm newForm = new MarioForm(animation, true, false, imageLoader);
-            mario.setMarioForm(newForm);
+            mario.setMarioForm(MarioForm.SUPER_FORM);
             mario.setDimension(48, 96);
 
             engine.playSuperMushroom();
@@ -0,0 +1,112 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Function;
+import metrics.LatencyHistogram;
+import metrics.TickProfiler;
+
+// 측정 엔드포인트: localhost HTTP로 방별 틱 구간 지연 백분위수와 카운터를 Prometheus 텍스트 형식으로 제공
+// 요청이 올 때만 히스토그램을 읽어 문자열을 만들고, 요청이 없으면 대기 스레드 하나만 있음
+// 백분위수는 이전 요청 이후의 구간 값(요청마다 구간 히스토그램 교체), _sum/_count는 누적 값
+//
+// 사용법: curl http://127.0.0.1:<포트>/metrics
+public class MetricsServer {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final RoomRegistry registry;
+    private HttpServer server;
+
+    MetricsServer(RoomRegistry registry) {
+        this.registry = registry;
+    }
+
+    // 루프백 주소에서 시작 (port가 0이면 빈 포트 자동 선택)
+    void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", this::handle);
+        server.start();
+        System.out.println("[MetricsServer] Serving http://127.0.0.1:" + getPort() + "/metrics");
+    }
+
+    void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = render().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // 방마다 구간별 지연(이전 요청 이후의 나노초 백분위수, quantile 1.0 = 최대), 오브젝트 수, 틱/드롭 틱, 전송 바이트
+    // 구간 히스토그램을 교체하므로 동시에 두 요청을 처리하지 않음
+    synchronized String render() {
+        StringBuilder text = new StringBuilder(4096);
+        text.append("# TYPE mario_tick_phase_nanos summary\n");
+        for (RoomSimulation room : registry.getRooms()) {
+            TickProfiler profiler = room.getProfiler();
+            for (int phase = 0; phase < TickProfiler.getPhaseCount(); phase++) {
+                LatencyHistogram interval = profiler.takeInterval(phase);
+                if (profiler.getCount(phase) == 0) {
+                    continue;
+                }
+                // 이번 구간에 기록이 없으면 백분위수는 NaN (이전 값을 계속 보여주지 않음)
+                boolean empty = interval.getCount() == 0;
+                String labels = "room=\"" + room.getRoomId() + "\",phase=\"" + TickProfiler.getPhaseName(phase) + "\"";
+                for (double quantile : QUANTILES) {
+                    text.append("mario_tick_phase_nanos{").append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                            .append(empty ? "NaN" : String.valueOf(interval.getPercentile(quantile))).append('\n');
+                }
+                text.append("mario_tick_phase_nanos{").append(labels).append(",quantile=\"1.0\"} ")
+                        .append(empty ? "NaN" : String.valueOf(interval.getMax())).append('\n');
+                text.append("mario_tick_phase_nanos_sum{").append(labels).append("} ").append(profiler.getTotal(phase)).append('\n');
+                text.append("mario_tick_phase_nanos_count{").append(labels).append("} ").append(profiler.getCount(phase)).append('\n');
+            }
+        }
+
+        text.append("# TYPE mario_room_entities gauge\n");
+        for (RoomSimulation room : registry.getRooms()) {
+            TickProfiler profiler = room.getProfiler();
+            appendEntities(text, room, "players", profiler.getPlayers());
+            appendEntities(text, room, "enemies", profiler.getEnemies());
+            appendEntities(text, room, "prizes", profiler.getPrizes());
+            appendEntities(text, room, "fireballs", profiler.getFireballs());
+        }
+
+        appendRoomValues(text, "mario_room_ticks_total", "counter", room -> String.valueOf(room.getExecutedTicks()));
+        appendRoomValues(text, "mario_room_dropped_ticks_total", "counter", room -> String.valueOf(room.getDroppedTicks()));
+        appendRoomValues(text, "mario_room_bytes_sent_total", "counter", room -> String.valueOf(room.getProfiler().getBytesSent()));
+        appendRoomValues(text, "mario_room_time_dilation", "gauge", room -> String.format(Locale.ROOT, "%.4f", room.getTimeDilation()));
+        return text.toString();
+    }
+
+    // 같은 이름의 값은 한 묶음으로 출력 (텍스트 형식 규칙)
+    private void appendRoomValues(StringBuilder text, String name, String type, Function<RoomSimulation, String> value) {
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        for (RoomSimulation room : registry.getRooms()) {
+            text.append(name).append("{room=\"").append(room.getRoomId()).append("\"} ").append(value.apply(room)).append('\n');
+        }
+    }
+
+    private static void appendEntities(StringBuilder text, RoomSimulation room, String kind, int count) {
+        text.append("mario_room_entities{room=\"").append(room.getRoomId()).append("\",kind=\"").append(kind).append("\"} ")
+                .append(count).append('\n');
+    }
+}
@@ -0,0 +1,108 @@
+package server;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import view.ImageLoader;
+
+// 방 목록: 여러 방을 동시에 운영하고, 모든 방의 틱을 코어 수 크기의 스케줄 스레드 풀에 나눠서 실행
+public class RoomRegistry {
+
+    private final ConcurrentHashMap<Integer, RoomSimulation> rooms = new ConcurrentHashMap<>();
+    private final AtomicInteger nextRoomId = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor executor;
+    private final ImageLoader imageLoader = new ImageLoader();
+    private volatile File replayDirectory; // 방마다 입력 리플레이를 저장할 폴더 (null이면 기록 안 함)
+    private volatile MetricsServer metricsServer; // 측정 엔드포인트 (null이면 틱 구간 측정 안 함)
+
+    public RoomRegistry() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public RoomRegistry(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "RoomTick-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        System.out.println("[RoomRegistry] Tick pool with " + executor.getCorePoolSize() + " threads");
+    }
+
+    // 이후 만드는 방의 입력을 기록해 방을 닫을 때 room-<id>.replay로 저장 (ReplayPlayer로 재생)
+    public void setReplayDirectory(File replayDirectory) {
+        if (replayDirectory != null) {
+            replayDirectory.mkdirs();
+        }
+        this.replayDirectory = replayDirectory;
+    }
+
+    // localhost HTTP 측정 엔드포인트 시작 (port 0이면 빈 포트), 이후 모든 방의 틱 구간 측정을 켬
+    public synchronized MetricsServer startMetricsServer(int port) throws IOException {
+        if (metricsServer == null) {
+            MetricsServer server = new MetricsServer(this);
+            server.start(port);
+            metricsServer = server;
+            for (RoomSimulation room : rooms.values()) {
+                room.getProfiler().setEnabled(true);
+            }
+        }
+        return metricsServer;
+    }
+
+    // 방 생성 후 바로 시뮬레이션 시작 (맵 로드 실패 시 null)
+    public RoomSimulation createRoom(String mapName, long seed) {
+        RoomSimulation room = new RoomSimulation(nextRoomId.incrementAndGet(), mapName, seed);
+        File directory = replayDirectory;
+        if (directory != null) {
+            room.recordReplay(new File(directory, "room-" + room.getRoomId() + ".replay"));
+        }
+        if (!room.load(imageLoader)) {
+            System.err.println("[RoomRegistry] Failed to load map: " + mapName);
+            return null;
+        }
+        // startMetricsServer와 같은 락: 엔드포인트가 시작되는 중에 만든 방도 측정이 켜지도록
+        synchronized (this) {
+            room.getProfiler().setEnabled(metricsServer != null);
+            rooms.put(room.getRoomId(), room);
+        }
+        room.start(executor);
+        return room;
+    }
+
+    public RoomSimulation getRoom(int roomId) {
+        return rooms.get(roomId);
+    }
+
+    public Collection<RoomSimulation> getRooms() {
+        return Collections.unmodifiableCollection(rooms.values());
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    // 방 종료 (시뮬레이션 중지 후 목록에서 제거)
+    public void closeRoom(int roomId) {
+        RoomSimulation room = rooms.remove(roomId);
+        if (room != null) {
+            room.stop();
+        }
+    }
+
+    public void shutdown() {
+        for (RoomSimulation room : rooms.values()) {
+            room.stop();
+        }
+        rooms.clear();
+        executor.shutdownNow();
+        if (metricsServer != null) {
+            metricsServer.stop();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package server;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import manager.Camera;
+import manager.InputReplay;
+import manager.MapManager;
+import manager.TickScheduler;
+import metrics.RoomLifecycleEvent;
+import metrics.SnapshotEvent;
+import metrics.TickEvent;
+import metrics.TickProfiler;
+import network.protocol.GameStateMessage;
+import view.ImageLoader;
+
+// 방 하나의 게임 시뮬레이션: 자기 MapManager/카메라/틱 스케줄을 가지고 공유 스레드 풀에서 60Hz로 실행
+// 입력과 참가/퇴장 요청은 락 없는 큐로 받아 룸 틱에서만 적용하므로 MapManager는 항상 한 스레드에서만 접근됨
+public class RoomSimulation {
+
+    public static final int SNAPSHOT_INTERVAL = 3; // 3틱마다 스냅샷 (20Hz 브로드캐스트)
+    private static final int JOIN = -1; // 참가 요청을 나타내는 keyCode
+    private static final int LEAVE = -2; // 퇴장 요청을 나타내는 keyCode
+    private static final int FREE = 0, USED = 1, LEAVING = 2; // 슬롯 상태 (슬롯 값의 하위 2비트, 나머지는 세대)
+
+    // 참가한 연결 하나의 자리: 플레이어 ID와 세대 (ID를 다시 쓰면 세대가 바뀌어 이전 연결의 입력/퇴장은 무시됨)
+    public static final class Seat {
+        public final int playerId;
+        public final int generation;
+
+        Seat(int playerId, int generation) {
+            this.playerId = playerId;
+            this.generation = generation;
+        }
+    }
+
+    // 클라이언트 입력 하나 (네트워크 스레드 → 룸 틱)
+    private static final class PlayerInput {
+        final int playerId, generation, keyCode;
+        final boolean pressed;
+
+        PlayerInput(Seat seat, int keyCode, boolean pressed) {
+            this.playerId = seat.playerId;
+            this.generation = seat.generation;
+            this.keyCode = keyCode;
+            this.pressed = pressed;
+        }
+    }
+
+    // 발행된 스냅샷과 그 시점 정보 (입력 → 스냅샷 지연 측정용)
+    public static final class Snapshot {
+        public final GameStateMessage state;
+        public final long tick;
+        public final long inputCutoffNanos; // 이 시각(System.nanoTime) 전에 제출된 입력은 모두 반영됨
+        public final long publishedNanos;
+
+        Snapshot(GameStateMessage state, long tick, long inputCutoffNanos, long publishedNanos) {
+            this.state = state;
+            this.tick = tick;
+            this.inputCutoffNanos = inputCutoffNanos;
+            this.publishedNanos = publishedNanos;
+        }
+    }
+
+    private final int roomId;
+    private final String mapName;
+    private final MapManager mapManager;
+    private final Camera camera = new Camera();
+    private final TickScheduler scheduler = new TickScheduler(MapManager.TICKS_PER_SECOND);
+    private final ConcurrentLinkedQueue<PlayerInput> inputs = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Snapshot> latestSnapshot = new AtomicReference<>();
+    private final TickProfiler profiler = new TickProfiler(); // 측정 엔드포인트가 켜졌을 때만 기록
+    private final AtomicIntegerArray slots = new AtomicIntegerArray(MapManager.MAX_PLAYERS + 1); // 플레이어 id별 (세대 << 2) | 상태
+    private final int[] generations = new int[MapManager.MAX_PLAYERS + 1]; // 룸 틱이 반영한 id별 현재 세대 (0이면 없음, 룸 틱 전용)
+    private final AtomicInteger playerCount = new AtomicInteger();
+    private ScheduledFuture<?> task;
+    private File replayFile; // 입력 리플레이 저장 위치 (null이면 기록 안 함)
+    private boolean crashReplaySaved;
+
+    // 틱 처리 시간 (룸 스레드에서 기록, 다른 스레드에서는 대략적인 값으로 읽음)
+    private volatile long totalTickNanos;
+    private volatile long maxTickNanos;
+
+    RoomSimulation(int roomId, String mapName, long seed) {
+        this.roomId = roomId;
+        this.mapName = mapName;
+        this.mapManager = new MapManager(seed);
+        this.mapManager.setCollisionPool(java.util.concurrent.ForkJoinPool.commonPool()); // 인원이 많은 방만 실제로 병렬 실행
+        this.mapManager.setProfiler(profiler, roomId);
+    }
+
+    // 입력 리플레이 기록 (load 전에 호출, 방을 닫을 때와 틱 예외 발생 시 파일로 저장)
+    void recordReplay(File replayFile) {
+        this.replayFile = replayFile;
+    }
+
+    // 맵 로드 (실패하면 false)
+    boolean load(ImageLoader loader) {
+        if (!mapManager.createMap(loader, mapName)) {
+            return false;
+        }
+        if (replayFile != null) {
+            mapManager.setInputRecorder(new InputReplay(mapName, mapManager.getSeed()));
+        }
+        RoomLifecycleEvent.record(roomId, RoomLifecycleEvent.CREATED, mapName, 0, 0);
+        return true;
+    }
+
+    // 공유 스레드 풀에 60Hz 주기로 등록 (한 룸의 틱은 동시에 두 번 실행되지 않음)
+    void start(ScheduledExecutorService executor) {
+        scheduler.reset();
+        long period = scheduler.getTickNanos();
+        task = executor.scheduleAtFixedRate(this::runTicks, period, period, TimeUnit.NANOSECONDS);
+        RoomLifecycleEvent.record(roomId, RoomLifecycleEvent.STARTED, mapName, getPlayerCount(), getExecutedTicks());
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel(false);
+        }
+        RoomLifecycleEvent.record(roomId, RoomLifecycleEvent.STOPPED, mapName, getPlayerCount(), getExecutedTicks());
+        if (replayFile != null) {
+            saveReplay(replayFile, true);
+        }
+    }
+
+    // 지금까지의 입력 리플레이 저장 (실행 중인 틱과 겹치지 않도록 runTicks와 같은 락 사용)
+    private synchronized void saveReplay(File file, boolean withStateHash) {
+        InputReplay replay = mapManager.getInputRecorder();
+        if (withStateHash) {
+            replay.finish(mapManager.getTick(), mapManager.computeStateHash());
+        } else {
+            replay.finishWithoutHash(mapManager.getTick());
+        }
+        try {
+            replay.write(file);
+            System.out.println("[Room " + roomId + "] Saved replay (" + replay.getEventCount() + " inputs, "
+                    + mapManager.getTick() + " ticks) to " + file);
+        } catch (IOException e) {
+            System.err.println("[Room " + roomId + "] Failed to save replay: " + e.getMessage());
+        }
+    }
+
+    // 참가: 비어 있는 가장 작은 플레이어 ID(1~MAX_PLAYERS)의 자리 반환, 방이 가득 차면 null
+    // 나간 플레이어의 ID는 다음 세대로 다시 사용됨 (재접속해도 방이 차지 않음)
+    public Seat join() {
+        for (int playerId = 1; playerId <= MapManager.MAX_PLAYERS; playerId++) {
+            int slot = slots.get(playerId);
+            if ((slot & 3) != FREE) {
+                continue;
+            }
+            int generation = (slot >>> 2) + 1;
+            if (slots.compareAndSet(playerId, slot, generation << 2 | USED)) {
+                Seat seat = new Seat(playerId, generation);
+                playerCount.incrementAndGet();
+                inputs.offer(new PlayerInput(seat, JOIN, true));
+                return seat;
+            }
+        }
+        return null;
+    }
+
+    // 퇴장: 다음 틱에 플레이어를 제거 (연결이 끊겼을 때 네트워크 계층이 호출, 이미 나갔거나 다른 세대면 무시)
+    // 퇴장 요청을 큐에 넣은 뒤 ID를 비우므로, 같은 ID로 새로 참가해도 제거 → 생성 순서로 적용됨
+    public void leave(Seat seat) {
+        int used = seat.generation << 2 | USED;
+        if (!slots.compareAndSet(seat.playerId, used, seat.generation << 2 | LEAVING)) {
+            return;
+        }
+        inputs.offer(new PlayerInput(seat, LEAVE, true));
+        playerCount.decrementAndGet();
+        slots.set(seat.playerId, seat.generation << 2 | FREE);
+    }
+
+    // 클라이언트 입력 전달 (어느 스레드에서든 호출 가능, 다음 틱에 적용, 세대가 다르면 버림)
+    public void submitInput(Seat seat, int keyCode, boolean pressed) {
+        inputs.offer(new PlayerInput(seat, keyCode, pressed));
+    }
+
+    // 스케줄러가 허용하는 만큼(따라잡기 상한 포함) 틱 실행
+    private synchronized void runTicks() {
+        try {
+            int ticks = scheduler.advance();
+            for (int i = 0; i < ticks; i++) {
+                long start = System.nanoTime();
+                tick();
+                long elapsed = System.nanoTime() - start;
+                totalTickNanos += elapsed;
+                if (elapsed > maxTickNanos) {
+                    maxTickNanos = elapsed;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 scheduleAtFixedRate가 조용히 멈추므로 여기서 기록하고 계속 진행
+            System.err.println("[Room " + roomId + "] Tick failed: " + e);
+            e.printStackTrace();
+            RoomLifecycleEvent.record(roomId, RoomLifecycleEvent.TICK_FAILED, mapName, getPlayerCount(), getExecutedTicks());
+            if (replayFile != null && !crashReplaySaved) {
+                crashReplaySaved = true; // 첫 예외만 저장 (재생하면 예외가 난 틱까지 진행)
+                saveReplay(new File(replayFile.getParentFile(), "crash-tick" + mapManager.getTick() + "-" + replayFile.getName()), false);
+            }
+        }
+    }
+
+    // 1틱: 입력 적용 → 물리 → 충돌 → 카메라 → (3틱마다) 스냅샷
+    private void tick() {
+        TickEvent tickEvent = new TickEvent(); // JFR 레코딩 중이 아니면 begin/commit은 아무것도 하지 않음
+        tickEvent.begin();
+        long inputCutoff = System.nanoTime();
+        boolean profiling = profiler.isEnabled();
+        int inputCount = 0;
+        PlayerInput input;
+        while ((input = inputs.poll()) != null) {
+            inputCount++;
+            if (input.keyCode == JOIN) {
+                generations[input.playerId] = input.generation;
+                mapManager.getPlayer(input.playerId);
+            } else if (generations[input.playerId] != input.generation) {
+                // 나간 연결의 늦게 도착한 입력: 같은 ID로 새로 참가한 플레이어나 빈 자리에 적용하지 않음
+                continue;
+            } else if (input.keyCode == LEAVE) {
+                generations[input.playerId] = 0;
+                mapManager.removePlayer(input.playerId);
+            } else {
+                mapManager.processInput(input.playerId, input.keyCode, input.pressed, null);
+            }
+        }
+
+        long phaseStart = profiling ? profiler.lap(TickProfiler.INPUT, inputCutoff) : 0;
+
+        mapManager.updateLocations();
+        if (profiling) {
+            phaseStart = profiler.lap(TickProfiler.PHYSICS, phaseStart);
+        }
+        mapManager.checkCollisions(null); // 충돌 검사 단계별 시간은 MapManager가 기록
+        mapManager.updateCamera(camera);
+
+        boolean snapshotTick = mapManager.getTick() % SNAPSHOT_INTERVAL == 0;
+        SnapshotEvent snapshotEvent = null;
+        GameStateMessage state = null;
+        if (snapshotTick) {
+            if (profiling) {
+                phaseStart = System.nanoTime();
+            }
+            snapshotEvent = new SnapshotEvent();
+            snapshotEvent.begin();
+            state = mapManager.collectGameState(camera);
+            snapshotEvent.end();
+            long published = System.nanoTime();
+            latestSnapshot.set(new Snapshot(state, mapManager.getTick(), inputCutoff, published));
+            if (profiling) {
+                profiler.record(TickProfiler.SNAPSHOT, published - phaseStart);
+                profiler.setEntityCounts(mapManager.getPlayerCount(), mapManager.getEnemyCount(),
+                        mapManager.getPrizeCount(), mapManager.getFireballCount());
+            }
+        }
+        if (profiling) {
+            profiler.record(TickProfiler.TICK, System.nanoTime() - inputCutoff);
+        }
+
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.roomId = roomId;
+            tickEvent.tick = mapManager.getTick();
+            tickEvent.inputs = inputCount;
+            tickEvent.players = mapManager.getPlayerCount();
+            tickEvent.snapshot = snapshotTick;
+            tickEvent.commit();
+        }
+        if (snapshotEvent != null && snapshotEvent.shouldCommit()) {
+            commitSnapshotEvent(snapshotEvent, state);
+        }
+    }
+
+    // 스냅샷 이벤트: 오브젝트 수 (JFR 레코딩 중일 때만, 틱 이벤트가 끝난 뒤 실행)
+    // 직렬화 크기는 여기서 재지 않음 (룸 락 안에서 할당이 생기므로 네트워크 계층이 SnapshotSizeEvent로 기록)
+    private void commitSnapshotEvent(SnapshotEvent event, GameStateMessage state) {
+        event.roomId = roomId;
+        event.tick = mapManager.getTick();
+        event.players = mapManager.getPlayerCount();
+        event.enemies = mapManager.getEnemyCount();
+        event.items = mapManager.getPrizeCount();
+        event.fireballs = mapManager.getFireballCount();
+        event.bricks = state.getBricks() != null ? state.getBricks().length : 0;
+        event.commit();
+    }
+
+    // 구간별 시간/오브젝트 수/전송 바이트 (네트워크 계층은 ENCODE, BROADCAST 구간과 addBytesSent, SnapshotSizeEvent를 기록)
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    // 가장 최근 스냅샷 (브로드캐스트 스레드가 읽음, 아직 없으면 null)
+    public GameStateMessage getLatestState() {
+        Snapshot snapshot = latestSnapshot.get();
+        return snapshot != null ? snapshot.state : null;
+    }
+
+    // 가장 최근 스냅샷과 발행 시점 정보 (아직 없으면 null)
+    public Snapshot getLatestSnapshot() {
+        return latestSnapshot.get();
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    public int getPlayerCount() {
+        return playerCount.get();
+    }
+
+    public long getExecutedTicks() {
+        return scheduler.getExecutedTicks();
+    }
+
+    public long getDroppedTicks() {
+        return scheduler.getDroppedTicks();
+    }
+
+    public long getLateTicks() {
+        return scheduler.getLateTicks();
+    }
+
+    public double getTimeDilation() {
+        return scheduler.getTimeDilation();
+    }
+
+    public long getTotalTickNanos() {
+        return totalTickNanos;
+    }
+
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+}
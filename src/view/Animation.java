@@ -2,33 +2,40 @@ package view;
 
 import java.awt.image.BufferedImage;
 
-// 애니메이션: 프레임 배열을 순차적으로 전환하여 움직이는 효과 생성
+// 애니메이션: 공유 프레임 세트 위의 재생 위치(커서). 프레임 자체는 FrameSet이 소유하고 여기서는 인덱스만 관리
 public class Animation {
 
     private int index = 0, count = 0;
-    private BufferedImage[] leftFrames, rightFrames;
+    private FrameSet frames;
     private BufferedImage currentFrame;
 
-    public Animation(BufferedImage[] leftFrames, BufferedImage[] rightFrames){
-        this.leftFrames = leftFrames;
-        this.rightFrames = rightFrames;
+    public Animation(FrameSet frames){
+        setFrames(frames);
+    }
+
+    // 다른 프레임 세트로 교체하고 커서 초기화 (폼 변환 시 새 객체를 만들지 않음)
+    public void setFrames(FrameSet frames) {
+        this.frames = frames;
+        index = 0;
+        count = 0;
+        currentFrame = null;
 
-        if (rightFrames != null && rightFrames.length > 1) {
-            currentFrame = rightFrames[1];
+        if (frames != null && frames.getRightFrames() != null && frames.getRightFrames().length > 1) {
+            currentFrame = frames.getRightFrames()[1];
         }
     }
 
     // 프레임 애니메이션 업데이트 (speed마다 다음 프레임으로 전환)
     public BufferedImage animate(int speed, boolean toRight){
-        if (rightFrames == null || leftFrames == null) {
+        if (frames == null || frames.getRightFrames() == null || frames.getLeftFrames() == null) {
             return null;
         }
         
         count++;
-        BufferedImage[] frames = toRight ? rightFrames : leftFrames;
+        BufferedImage[] current = toRight ? frames.getRightFrames() : frames.getLeftFrames();
 
         if(count > speed){
-            nextFrame(frames);
+            nextFrame(current);
             count = 0;
         }
 
@@ -45,11 +52,11 @@ public class Animation {
     }
 
     public BufferedImage[] getLeftFrames() {
-        return leftFrames;
+        return frames != null ? frames.getLeftFrames() : null;
     }
 
     public BufferedImage[] getRightFrames() {
-        return rightFrames;
+        return frames != null ? frames.getRightFrames() : null;
     }
 
 }
@@ -0,0 +1,23 @@
+package view;
+
+import java.awt.image.BufferedImage;
+
+// 프레임 세트: 한 폼(또는 오브젝트)의 좌/우 애니메이션 프레임. ImageLoader가 한 번만 만들고 모든 인스턴스가 공유 (수정 금지)
+public final class FrameSet {
+
+    private final BufferedImage[] leftFrames, rightFrames;
+
+    public FrameSet(BufferedImage[] leftFrames, BufferedImage[] rightFrames) {
+        this.leftFrames = leftFrames;
+        this.rightFrames = rightFrames;
+    }
+
+    // 공유 배열이므로 읽기만 할 것
+    public BufferedImage[] getLeftFrames() {
+        return leftFrames;
+    }
+
+    public BufferedImage[] getRightFrames() {
+        return rightFrames;
+    }
+}
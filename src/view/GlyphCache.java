@@ -0,0 +1,163 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+// 글리프 캐시: 고정 문자열과 숫자를 미리 이미지로 렌더링해 두고 매 프레임 텍스트 셰이핑 없이 그리기
+public class GlyphCache {
+
+    private static final String DIGITS = "0123456789-";
+
+    private final Font font;
+    private final FontMetrics metrics;
+    private final int ascent, height;
+    private final int[] digitX = new int[DIGITS.length()]; // 아틀라스 내 숫자별 시작 x
+    private final int[] digitWidth = new int[DIGITS.length()]; // 숫자별 advance 폭
+    private final int[] digitBuffer = new int[11]; // int 최대 자릿수 + 부호
+    private final java.util.Map<String, ArrayList<Label>> labels = new HashMap<>();
+    private final ArrayList<Label> digitAtlases = new ArrayList<>(); // 색상별 숫자 아틀라스
+
+    // 캐시 항목: 문자열 + 색상 + 외곽선 여부에 대응하는 이미지
+    private static class Label {
+        final Color color;
+        final boolean outline;
+        final BufferedImage image;
+
+        Label(Color color, boolean outline, BufferedImage image) {
+            this.color = color;
+            this.outline = outline;
+            this.image = image;
+        }
+    }
+
+    public GlyphCache(Font font) {
+        this.font = font;
+
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scratch.createGraphics();
+        this.metrics = g.getFontMetrics(font);
+        g.dispose();
+
+        this.ascent = metrics.getAscent();
+        this.height = metrics.getAscent() + metrics.getDescent();
+
+        int x = 0;
+        for (int i = 0; i < DIGITS.length(); i++) {
+            digitX[i] = x;
+            digitWidth[i] = metrics.charWidth(DIGITS.charAt(i));
+            x += digitWidth[i];
+        }
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    public int getAscent() {
+        return ascent;
+    }
+
+    public int stringWidth(String text) {
+        return metrics.stringWidth(text);
+    }
+
+    // 숫자를 그렸을 때의 폭 (아틀라스 advance 합)
+    public int numberWidth(int value) {
+        int width = value < 0 ? digitWidth[DIGITS.length() - 1] : 0;
+        long remaining = Math.abs((long) value);
+        do {
+            width += digitWidth[(int) (remaining % 10)];
+            remaining /= 10;
+        } while (remaining > 0);
+        return width;
+    }
+
+    // 캐시된 문자열을 baseline 기준으로 그리고 문자열 폭 반환
+    public int drawLabel(Graphics2D g2, String text, Color color, boolean outline, int x, int baselineY) {
+        BufferedImage image = getLabel(text, color, outline);
+        g2.drawImage(image, x - 1, baselineY - ascent - 1, null);
+        return image.getWidth() - 2;
+    }
+
+    // 문자열 이미지 조회 (없으면 한 번만 렌더링). 외곽선은 검은색 대각선 4방향
+    public BufferedImage getLabel(String text, Color color, boolean outline) {
+        ArrayList<Label> variants = labels.get(text);
+        if (variants == null) {
+            variants = new ArrayList<>(2);
+            labels.put(text, variants);
+        }
+
+        for (int i = 0; i < variants.size(); i++) {
+            Label label = variants.get(i);
+            if (label.outline == outline && label.color.equals(color)) {
+                return label.image;
+            }
+        }
+
+        BufferedImage image = renderText(text, color, outline);
+        variants.add(new Label(color, outline, image));
+        return image;
+    }
+
+    // 숫자 아틀라스에서 자릿수별로 잘라 그리기 (문자열 생성 없음), 그린 폭 반환
+    public int drawNumber(Graphics2D g2, int value, Color color, int x, int baselineY) {
+        BufferedImage atlas = getDigitAtlas(color);
+
+        int count = 0;
+        long remaining = Math.abs((long) value);
+        do {
+            digitBuffer[count++] = (int) (remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            digitBuffer[count++] = DIGITS.length() - 1;
+        }
+
+        int top = baselineY - ascent - 1;
+        int startX = x;
+        for (int i = count - 1; i >= 0; i--) {
+            int digit = digitBuffer[i];
+            int sx = digitX[digit] + 1;
+            int w = digitWidth[digit];
+            g2.drawImage(atlas, x, top, x + w, top + height + 2, sx, 0, sx + w, height + 2, null);
+            x += w;
+        }
+        return x - startX;
+    }
+
+    private BufferedImage getDigitAtlas(Color color) {
+        for (int i = 0; i < digitAtlases.size(); i++) {
+            Label atlas = digitAtlases.get(i);
+            if (atlas.color.equals(color)) {
+                return atlas.image;
+            }
+        }
+
+        // 숫자를 advance 간격대로 한 줄에 렌더링 (좌우 1px 여백)
+        BufferedImage image = renderText(DIGITS, color, false);
+        digitAtlases.add(new Label(color, false, image));
+        return image;
+    }
+
+    private BufferedImage renderText(String text, Color color, boolean outline) {
+        int width = Math.max(1, metrics.stringWidth(text)) + 2;
+        BufferedImage image = new BufferedImage(width, height + 2, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setFont(font);
+
+        int x = 1, y = 1 + ascent;
+        if (outline) {
+            g.setColor(Color.BLACK);
+            g.drawString(text, x - 1, y - 1);
+            g.drawString(text, x + 1, y - 1);
+            g.drawString(text, x - 1, y + 1);
+            g.drawString(text, x + 1, y + 1);
+        }
+        g.setColor(color);
+        g.drawString(text, x, y);
+        g.dispose();
+        return image;
+    }
+}
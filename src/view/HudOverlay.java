@@ -0,0 +1,249 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import network.protocol.GameStateMessage;
+
+// HUD 오버레이: 점수/생명/코인/시간과 리더보드를 캐시 이미지에 그려두고 값이 바뀔 때만 다시 그림
+class HudOverlay {
+
+    private static final int HUD_HEIGHT = 100; // HUD 영역 높이 (화면 좌상단부터)
+    private static final int BOARD_X = 950, BOARD_Y = 100; // 리더보드 첫 줄 기준 위치
+    private static final int LINE_HEIGHT = 30, PADDING = 15, BOARD_WIDTH = 280;
+    private static final Color BOARD_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color GOLD = new Color(255, 215, 0);
+    private static final Color SILVER = new Color(192, 192, 192);
+    private static final Color BRONZE = new Color(205, 127, 50);
+    private static final int MAX_BOARD_ROWS = 10; // 리더보드에 표시할 최대 순위 수 (방 인원이 많아도 상위만 표시)
+
+    private final GlyphCache hudGlyphs, boardGlyphs, boardTitleGlyphs;
+    private final BufferedImage heartIcon, coinIcon;
+    private final Component target; // 호환 이미지 생성용 (없으면 일반 ARGB)
+
+    private BufferedImage hudImage, boardImage;
+    private volatile boolean invalidated; // invalidate() 요청 (어느 스레드에서든 설정, 다음 draw에서 처리)
+    private int boardTop; // 리더보드 이미지 상단의 화면 y (제목 글리프가 박스 위로 넘칠 수 있음)
+
+    // 마지막으로 그린 HUD 값
+    private boolean hudDirty = true;
+    private int points, lives, coins, time;
+    private boolean hasTime;
+
+    // 마지막으로 그린 순위 (id, 점수) 및 정렬용 작업 배열
+    private boolean boardDirty = true;
+    private int rankCount;
+    private int[] rankIds = new int[MAX_BOARD_ROWS], rankPoints = new int[MAX_BOARD_ROWS];
+    private int sortCount;
+    private int[] sortIds = new int[MAX_BOARD_ROWS], sortPoints = new int[MAX_BOARD_ROWS];
+
+    HudOverlay(Component target, GlyphCache hudGlyphs, GlyphCache boardGlyphs, GlyphCache boardTitleGlyphs,
+               BufferedImage heartIcon, BufferedImage coinIcon) {
+        this.target = target;
+        this.hudGlyphs = hudGlyphs;
+        this.boardGlyphs = boardGlyphs;
+        this.boardTitleGlyphs = boardTitleGlyphs;
+        this.heartIcon = heartIcon;
+        this.coinIcon = coinIcon;
+    }
+
+    // 캐시된 HUD와 리더보드를 화면 좌표에 그리기 (값이 바뀐 영역만 다시 렌더링)
+    void draw(Graphics2D g2, GameStateMessage.PlayerState player, GameStateMessage gameState) {
+        if (invalidated) {
+            invalidated = false;
+            hudImage = null; // 화면 구성이 바뀌었을 수 있으므로 호환 이미지를 새로 만듦
+            boardImage = null;
+            hudDirty = true;
+            boardDirty = true;
+        }
+
+        GameStateMessage.GameInfo info = gameState.getGameInfo();
+        boolean newHasTime = info != null;
+        int newTime = newHasTime ? (int) info.remainingTime : 0;
+
+        if (hudDirty || player.points != points || player.lives != lives || player.coins != coins
+                || newHasTime != hasTime || newTime != time) {
+            points = player.points;
+            lives = player.lives;
+            coins = player.coins;
+            hasTime = newHasTime;
+            time = newTime;
+            renderHud();
+            hudDirty = false;
+        }
+        g2.drawImage(hudImage, 0, 0, null);
+
+        collectRanks(gameState);
+        if (boardDirty || !sameRanks()) {
+            swapRanks();
+            renderBoard();
+            boardDirty = false;
+        }
+        if (rankCount > 0) {
+            g2.drawImage(boardImage, BOARD_X - PADDING, boardTop, null);
+        }
+    }
+
+    // 다음 프레임에 캐시 이미지를 새로 만들어 다시 그리기 (게임 재시작, 화면 크기 변경)
+    void invalidate() {
+        invalidated = true;
+    }
+
+    private void renderHud() {
+        int width = Math.max(300 + hudGlyphs.stringWidth("POINTS: ") + hudGlyphs.numberWidth(points),
+                750 + hudGlyphs.stringWidth("TIME: ") + hudGlyphs.numberWidth(time)) + 2;
+        if (hudImage == null || hudImage.getWidth() < width) {
+            hudImage = createImage(width, HUD_HEIGHT);
+        }
+        Graphics2D g = beginRender(hudImage);
+
+        int x = 300 + hudGlyphs.drawLabel(g, "POINTS: ", Color.WHITE, false, 300, 50);
+        hudGlyphs.drawNumber(g, points, Color.WHITE, x, 50);
+
+        if (heartIcon != null) {
+            g.drawImage(heartIcon, 40, 30, 32, 32, null);
+        }
+        x = 80 + hudGlyphs.drawLabel(g, "x ", Color.WHITE, false, 80, 55);
+        hudGlyphs.drawNumber(g, lives, Color.WHITE, x, 55);
+
+        if (coinIcon != null) {
+            g.drawImage(coinIcon, 40, 70, 24, 24, null);
+        }
+        x = 80 + hudGlyphs.drawLabel(g, "x ", Color.WHITE, false, 80, 90);
+        hudGlyphs.drawNumber(g, coins, Color.WHITE, x, 90);
+
+        if (hasTime) {
+            x = 750 + hudGlyphs.drawLabel(g, "TIME: ", Color.WHITE, false, 750, 50);
+            hudGlyphs.drawNumber(g, time, Color.WHITE, x, 50);
+        }
+        g.dispose();
+    }
+
+    // 리더보드: 생존 플레이어를 점수 내림차순으로 (동점은 id 순서 유지)
+    private void renderBoard() {
+        if (rankCount == 0) {
+            return;
+        }
+
+        int boxHeight = rankCount * LINE_HEIGHT + PADDING * 2 + 10;
+        int offsetY = Math.max(PADDING, boardTitleGlyphs.getAscent() + 1); // 이미지 상단 → 첫 줄 baseline
+        int width = Math.max(BOARD_WIDTH, PADDING + boardTitleGlyphs.stringWidth("LEADERBOARD") + 2);
+        for (int i = 0; i < rankCount; i++) {
+            width = Math.max(width, PADDING + rowWidth(i) + 2);
+        }
+        int height = offsetY - PADDING + boxHeight;
+
+        if (boardImage == null || boardImage.getWidth() < width || boardImage.getHeight() < height) {
+            boardImage = createImage(width, height);
+        }
+        boardTop = BOARD_Y - offsetY;
+        Graphics2D g = beginRender(boardImage);
+
+        g.setColor(BOARD_BACKGROUND);
+        g.fillRoundRect(0, offsetY - PADDING, BOARD_WIDTH, boxHeight, 10, 10);
+
+        int x = PADDING;
+        int y = offsetY;
+        boardTitleGlyphs.drawLabel(g, "LEADERBOARD", GOLD, false, x, y);
+        y += 35;
+
+        for (int i = 0; i < rankCount; i++) {
+            Color color;
+            if (i == 0) {
+                color = GOLD;
+            } else if (i == 1) {
+                color = SILVER;
+            } else if (i == 2) {
+                color = BRONZE;
+            } else {
+                color = Color.WHITE;
+            }
+
+            // "%d. P%d: %d pts" 형식을 숫자 아틀라스와 캐시된 조각으로 조립
+            int textX = x;
+            textX += boardGlyphs.drawNumber(g, i + 1, color, textX, y);
+            textX += boardGlyphs.drawLabel(g, ". P", color, false, textX, y);
+            textX += boardGlyphs.drawNumber(g, rankIds[i], color, textX, y);
+            textX += boardGlyphs.drawLabel(g, ": ", color, false, textX, y);
+            textX += boardGlyphs.drawNumber(g, rankPoints[i], color, textX, y);
+            boardGlyphs.drawLabel(g, " pts", color, false, textX, y);
+            y += LINE_HEIGHT;
+        }
+        g.dispose();
+    }
+
+    // 순위 한 줄("%d. P%d: %d pts")의 폭
+    private int rowWidth(int rank) {
+        return boardGlyphs.numberWidth(rank + 1) + boardGlyphs.stringWidth(". P") + boardGlyphs.numberWidth(rankIds[rank])
+                + boardGlyphs.stringWidth(": ") + boardGlyphs.numberWidth(rankPoints[rank]) + boardGlyphs.stringWidth(" pts");
+    }
+
+    // 생존 플레이어 중 상위 MAX_BOARD_ROWS명만 작업 배열에 삽입 정렬 (플레이어 수 N에 대해 O(N * 표시 줄 수), 할당 없음)
+    private void collectRanks(GameStateMessage gameState) {
+        sortCount = 0;
+        GameStateMessage.PlayerState[] players = gameState.getPlayers();
+        if (players == null) {
+            return;
+        }
+
+        for (int id = 1; id < players.length; id++) {
+            GameStateMessage.PlayerState player = players[id];
+            if (player == null || player.lives <= 0) {
+                continue;
+            }
+            if (sortCount == MAX_BOARD_ROWS) {
+                if (sortPoints[MAX_BOARD_ROWS - 1] >= player.points) {
+                    continue;
+                }
+                sortCount--; // 꼴찌를 밀어냄
+            }
+
+            int i = sortCount++;
+            while (i > 0 && sortPoints[i - 1] < player.points) {
+                sortIds[i] = sortIds[i - 1];
+                sortPoints[i] = sortPoints[i - 1];
+                i--;
+            }
+            sortIds[i] = id;
+            sortPoints[i] = player.points;
+        }
+    }
+
+    private boolean sameRanks() {
+        if (sortCount != rankCount) {
+            return false;
+        }
+        for (int i = 0; i < sortCount; i++) {
+            if (sortIds[i] != rankIds[i] || sortPoints[i] != rankPoints[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 방금 정렬한 순위를 "마지막으로 그린 순위"로 교체 (배열 재사용)
+    private void swapRanks() {
+        int[] ids = rankIds, pts = rankPoints;
+        rankIds = sortIds;
+        rankPoints = sortPoints;
+        rankCount = sortCount;
+        sortIds = ids;
+        sortPoints = pts;
+    }
+
+    private BufferedImage createImage(int width, int height) {
+        GraphicsConfiguration config = target != null ? target.getGraphicsConfiguration() : null;
+        if (config != null) {
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    // 투명하게 지운 뒤 그리기 시작
+    private Graphics2D beginRender(BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+        return g;
+    }
+}
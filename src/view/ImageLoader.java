@@ -1,39 +1,65 @@
 package view;
 
+import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.imageio.ImageIO;
 
 // 이미지 로더: 게임 리소스 이미지 파일 로드 및 스프라이트 추출
+// 디코딩한 이미지는 프로세스 전체에서 경로별로 한 번만 캐시 (모든 ImageLoader 인스턴스와 스레드가 공유)
 public class ImageLoader {
 
-    private BufferedImage marioForms;
-    private BufferedImage brickAnimation;
+    private static final ConcurrentHashMap<String, BufferedImage> cache = new ConcurrentHashMap<>();
+    private static final FrameSet[] marioFrameSets = new FrameSet[3]; // 폼별 공유 프레임 세트
+    private static FrameSet brickFrameSet; // marioFrameSets 락으로 보호
 
+    // 시트 이미지는 처음 필요할 때 캐시에서 가져옴 (생성자에서 디코딩하지 않음)
     public ImageLoader(){
-        marioForms = loadImage("/mario-forms.png");
-        brickAnimation = loadImage("/brick-animation.png");
     }
 
-    // src/media/ 경로에서 이미지 로드
+    // media 경로의 이미지 로드 (캐시에 없을 때만 디코딩, 같은 경로는 항상 같은 이미지 반환)
     public BufferedImage loadImage(String path){
-        BufferedImage imageToReturn = null;
+        BufferedImage cached = cache.get(path);
+        if (cached != null) {
+            return cached;
+        }
 
-        try {
-            File file = new File("src/media" + path);
-            if (file.exists()) {
-                imageToReturn = ImageIO.read(file);
-                System.out.println("[ImageLoader] Loaded image from file: " + file.getAbsolutePath());
-            } else {
-                System.err.println("[ImageLoader] File not found: " + file.getAbsolutePath());
+        BufferedImage image = readImage(path);
+        if (image == null) {
+            return null; // 실패는 캐시하지 않음
+        }
+        BufferedImage previous = cache.putIfAbsent(path, image);
+        return previous != null ? previous : image;
+    }
+
+    // 클래스패스(/media/...)에서 먼저 찾고, 없으면 src/media/ 파일에서 로드
+    private BufferedImage readImage(String path) {
+        try (InputStream in = ImageLoader.class.getResourceAsStream("/media" + path)) {
+            if (in != null) {
+                BufferedImage image = ImageIO.read(in);
+                if (image != null) {
+                    System.out.println("[ImageLoader] Loaded image from classpath: /media" + path);
+                    return toCompatibleImage(image);
+                }
             }
         } catch (IOException e) {
-            System.err.println("[ImageLoader] Error loading image: " + path);
+            System.err.println("[ImageLoader] Error loading image from classpath: " + path);
             e.printStackTrace();
         }
 
-        return imageToReturn;
+        File file = new File("src/media" + path);
+        if (!file.exists()) {
+            System.err.println("[ImageLoader] File not found: " + file.getAbsolutePath());
+            return null;
+        }
+        BufferedImage image = loadImage(file);
+        if (image != null) {
+            System.out.println("[ImageLoader] Loaded image from file: " + file.getAbsolutePath());
+        }
+        return image;
     }
 
     public BufferedImage loadImage(File file){
@@ -45,7 +71,33 @@ public class ImageLoader {
             e.printStackTrace();
         }
 
-        return imageToReturn;
+        return imageToReturn != null ? toCompatibleImage(imageToReturn) : null;
+    }
+
+    // 화면과 같은 픽셀 포맷으로 한 번만 변환 (팔레트/3BYTE_BGR PNG를 매 프레임 변환하며 그리지 않도록)
+    // 화면이 없으면(headless) INT_ARGB로 변환
+    private static BufferedImage toCompatibleImage(BufferedImage image) {
+        int transparency = image.getColorModel().getTransparency();
+        BufferedImage converted;
+        if (GraphicsEnvironment.isHeadless()) {
+            if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+                return image;
+            }
+            converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        } else {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            if (image.getColorModel().equals(config.getColorModel(transparency))) {
+                return image;
+            }
+            converted = config.createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        }
+
+        Graphics2D g = converted.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return converted;
     }
 
     // 스프라이트 시트에서 특정 영역 추출 (col, row 1부터 시작)
@@ -59,10 +111,37 @@ public class ImageLoader {
         return image.getSubimage((col-1)*48, (row-1)*48, w, h);
     }
 
-    // 마리오 왼쪽 방향 프레임 배열 추출 (marioForm: 0=Small, 1=Super, 2=Fire)
-    public BufferedImage[] getLeftFrames(int marioForm){
-        if (marioForms == null) return null;
-        
+    // 마리오 폼별 프레임 세트 (marioForm: 0=Small, 1=Super, 2=Fire). 폼마다 한 번만 잘라서 모든 마리오가 공유
+    public FrameSet getMarioFrames(int marioForm){
+        synchronized (marioFrameSets) {
+            if (marioFrameSets[marioForm] == null) {
+                BufferedImage marioForms = loadImage("/mario-forms.png");
+                if (marioForms == null) return null;
+                marioFrameSets[marioForm] = new FrameSet(sliceLeftFrames(marioForms, marioForm),
+                        sliceRightFrames(marioForms, marioForm));
+            }
+            return marioFrameSets[marioForm];
+        }
+    }
+
+    // 블록 부서지는 애니메이션 프레임 세트 (좌우 동일, 공유)
+    public FrameSet getBrickFrames() {
+        synchronized (marioFrameSets) {
+            if (brickFrameSet == null) {
+                BufferedImage brickAnimation = loadImage("/brick-animation.png");
+                if (brickAnimation == null) return null;
+                BufferedImage[] frames = new BufferedImage[4];
+                for(int i = 0; i < 4; i++){
+                    frames[i] = brickAnimation.getSubimage(i*105, 0, 105, 105);
+                }
+                brickFrameSet = new FrameSet(frames, frames);
+            }
+            return brickFrameSet;
+        }
+    }
+
+    // 마리오 왼쪽 방향 프레임 배열 추출
+    private static BufferedImage[] sliceLeftFrames(BufferedImage marioForms, int marioForm){
         BufferedImage[] leftFrames = new BufferedImage[5];
         int col = 1;
         int width = 52, height = 48;
@@ -85,9 +164,7 @@ public class ImageLoader {
     }
 
     // 마리오 오른쪽 방향 프레임 배열 추출
-    public BufferedImage[] getRightFrames(int marioForm){
-        if (marioForms == null) return null;
-        
+    private static BufferedImage[] sliceRightFrames(BufferedImage marioForms, int marioForm){
         BufferedImage[] rightFrames = new BufferedImage[5];
         int col = 2;
         int width = 52, height = 48;
@@ -109,13 +186,4 @@ public class ImageLoader {
         return rightFrames;
     }
 
-    // 블록 부서지는 애니메이션 프레임 배열 추출
-    public BufferedImage[] getBrickFrames() {
-        BufferedImage[] frames = new BufferedImage[4];
-        for(int i = 0; i < 4; i++){
-            frames[i] = brickAnimation.getSubimage(i*105, 0, 105, 105);
-        }
-        return frames;
-    }
-
 }
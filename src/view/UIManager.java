@@ -7,6 +7,7 @@ import java.io.InputStream;
 import javax.swing.*;
 import manager.GameEngine;
 import manager.GameStatus;
+import manager.MapManager;
 import model.GameRecord;
 import ranking.RankingManager;
 
@@ -14,7 +15,10 @@ import ranking.RankingManager;
 public class UIManager extends JPanel{
 
     private GameEngine engine;
+    private ImageLoader imageLoader;
     private Font gameFont;
+    private static Font baseFont; // loadGameFont()로 한 번만 생성
+    private static final Font LOADING_FONT = new Font(Font.MONOSPACED, Font.BOLD, 30); // 게임 폰트 로드 전 로딩 화면용
     private BufferedImage startScreenImage, aboutScreenImage, helpScreenImage, gameOverScreen;
     private BufferedImage heartIcon;
     private BufferedImage coinIcon;
@@ -24,34 +28,88 @@ public class UIManager extends JPanel{
     private String currentMapName = null;
     private MapSelection mapSelection;
     private java.util.Map<Integer, Animation> playerAnimations;
+    private final Font[] plainFonts = new Font[128], boldFonts = new Font[128]; // 크기별 파생 폰트 캐시
+    private GlyphCache playerLabelGlyphs, otherPlayerLabelGlyphs;
+    private HudOverlay hudOverlay;
+    private BufferedImage[][] playerLabels = new BufferedImage[0][]; // [playerId][내 플레이어 여부] 외곽선 라벨
 
     public UIManager(GameEngine engine, int width, int height) {
+        this(engine.getImageLoader(), width, height);
+        this.engine = engine;
+    }
+
+    // 엔진 없이 생성 (오프스크린 렌더링/벤치마크용, drawGameFromState(g2, state, id)만 사용 가능)
+    // 이미지와 폰트는 loadAssets()에서 로드 (그 전에는 로딩 화면만 그릴 수 있음)
+    public UIManager(ImageLoader loader, int width, int height) {
         setPreferredSize(new Dimension(width, height));
         setMaximumSize(new Dimension(width, height));
         setMinimumSize(new Dimension(width, height));
 
-        this.engine = engine;
-        ImageLoader loader = engine.getImageLoader();
+        this.imageLoader = loader;
+        playerAnimations = new java.util.HashMap<>();
 
+        // 크기가 바뀌면 HUD 캐시 이미지를 새로 만듦
+        addComponentListener(new java.awt.event.ComponentAdapter() {
+            @Override
+            public void componentResized(java.awt.event.ComponentEvent e) {
+                resetOverlay();
+            }
+        });
+    }
+
+    // HUD/리더보드 캐시를 다음 프레임에 다시 그리기 (새 게임 시작, 시작 화면 복귀 시 GameEngine이 호출)
+    public void resetOverlay() {
+        if (hudOverlay != null) {
+            hudOverlay.invalidate();
+        }
+    }
+
+    // 화면 에셋 로드 (AssetPreloader가 미리 디코딩해 두었으면 캐시 조회만 수행)
+    public void loadAssets() {
         mapSelection = new MapSelection();
-        playerAnimations = new java.util.HashMap<>();
 
-        this.spriteSheet = loader.loadImage("/sprite.png");
-        this.heartIcon = loader.loadImage("/heart-icon.png");
-        this.coinIcon = loader.getSubImage(spriteSheet, 1, 5, 48, 48);
-        this.selectIcon = loader.loadImage("/select-icon.png");
-        this.startScreenImage = loader.loadImage("/start-screen.png");
-        this.helpScreenImage = loader.loadImage("/help-screen.png");
-        this.aboutScreenImage = loader.loadImage("/about-screen.png");
-        this.gameOverScreen = loader.loadImage("/game-over.png");
+        this.spriteSheet = imageLoader.loadImage("/sprite.png");
+        this.heartIcon = imageLoader.loadImage("/heart-icon.png");
+        this.coinIcon = imageLoader.getSubImage(spriteSheet, 1, 5, 48, 48);
+        this.selectIcon = imageLoader.loadImage("/select-icon.png");
+        this.startScreenImage = imageLoader.loadImage("/start-screen.png");
+        this.helpScreenImage = imageLoader.loadImage("/help-screen.png");
+        this.aboutScreenImage = imageLoader.loadImage("/about-screen.png");
+        this.gameOverScreen = imageLoader.loadImage("/game-over.png");
+        this.gameFont = loadGameFont();
+
+        hudOverlay = new HudOverlay(this, new GlyphCache(font(25)), new GlyphCache(font(18)),
+                new GlyphCache(boldFont(20)), heartIcon, coinIcon);
+        playerLabelGlyphs = new GlyphCache(boldFont(14));
+        otherPlayerLabelGlyphs = new GlyphCache(font(12));
+    }
+
+    // 게임 폰트 (프로세스에서 한 번만 생성, 여러 스레드에서 호출 가능)
+    public static synchronized Font loadGameFont() {
+        if (baseFont == null) {
+            try (InputStream in = UIManager.class.getResourceAsStream("/media/font/mario-font.ttf")) {
+                baseFont = Font.createFont(Font.TRUETYPE_FONT, in);
+            } catch (FontFormatException | IOException e) {
+                baseFont = new Font("Verdana", Font.PLAIN, 12);
+                e.printStackTrace();
+            }
+        }
+        return baseFont;
+    }
 
-        try {
-            InputStream in = getClass().getResourceAsStream("/media/font/mario-font.ttf");
-            gameFont = Font.createFont(Font.TRUETYPE_FONT, in);
-        } catch (FontFormatException | IOException e) {
-            gameFont = new Font("Verdana", Font.PLAIN, 12);
-            e.printStackTrace();
+    // 파생 폰트는 크기별로 한 번만 생성 (deriveFont는 호출마다 새 Font 객체 생성)
+    private Font font(int size) {
+        if (plainFonts[size] == null) {
+            plainFonts[size] = gameFont.deriveFont((float) size);
         }
+        return plainFonts[size];
+    }
+
+    private Font boldFont(int size) {
+        if (boldFonts[size] == null) {
+            boldFonts[size] = gameFont.deriveFont(Font.BOLD, (float) size);
+        }
+        return boldFonts[size];
     }
 
     // 게임 상태에 따라 적절한 화면 렌더링
@@ -62,7 +120,10 @@ public class UIManager extends JPanel{
         Graphics2D g2 = (Graphics2D) g.create();
         GameStatus gameStatus = engine.getGameStatus();
 
-        if(gameStatus == GameStatus.START_SCREEN){
+        if(gameStatus == GameStatus.LOADING){
+            drawLoadingScreen(g2);
+        }
+        else if(gameStatus == GameStatus.START_SCREEN){
             drawStartScreen(g2);
         }
         else if(gameStatus == GameStatus.MAP_SELECTION){
@@ -90,13 +151,10 @@ public class UIManager extends JPanel{
             drawConnectingScreen(g2);
         }
         else {
-            System.out.println("[UI] Drawing game screen");
             if(engine.getNetworkManager() != null && 
                engine.getNetworkManager().getNetworkMode() == network.NetworkManager.NetworkMode.CLIENT) {
-                System.out.println("[UI] CLIENT MODE - calling drawGameFromState()");
-                drawGameFromState(g2);
+                drawGameFromState(g2, engine.getLatestGameState(), engine.getMyPlayerId());
             } else {
-                System.out.println("[UI] SINGLE/SERVER MODE - drawing traditional way");
                 Point camLocation = engine.getCameraLocation();
                 g2.translate(-camLocation.x, -camLocation.y);
                 engine.drawMap(g2);
@@ -128,7 +186,7 @@ public class UIManager extends JPanel{
         g2.fillRect(0, 0, getWidth(), getHeight());
 
         g2.setColor(Color.YELLOW);
-        g2.setFont(gameFont.deriveFont(40f));
+        g2.setFont(font(40));
         String title = "랭킹 시스템";
         int titleWidth = g2.getFontMetrics().stringWidth(title);
         g2.drawString(title, (getWidth() - titleWidth) / 2, 50);
@@ -139,7 +197,7 @@ public class UIManager extends JPanel{
         drawRankingList(g2, "시간 순위", rankingManager.getTimeRanking(), 400, Color.CYAN);
 
         g2.setColor(Color.WHITE);
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         String backMessage = "SPACE 키를 누르면 메뉴로 돌아갑니다";
         int backWidth = g2.getFontMetrics().stringWidth(backMessage);
         g2.drawString(backMessage, (getWidth() - backWidth) / 2, getHeight() - 50);
@@ -148,11 +206,11 @@ public class UIManager extends JPanel{
     // 순위 리스트 렌더링
     private void drawRankingList(Graphics2D g2, String title, java.util.List<GameRecord> ranking, int startY, Color titleColor) {
         g2.setColor(titleColor);
-        g2.setFont(gameFont.deriveFont(25f));
+        g2.setFont(font(25));
         g2.drawString(title, 100, startY);
 
         g2.setColor(Color.WHITE);
-        g2.setFont(gameFont.deriveFont(18f));
+        g2.setFont(font(18));
 
         for (int i = 0; i < Math.min(ranking.size(), 10); i++) {
             GameRecord record = ranking.get(i);
@@ -184,14 +242,14 @@ public class UIManager extends JPanel{
     }
 
     private void drawRemainingTime(Graphics2D g2) {
-        g2.setFont(gameFont.deriveFont(25f));
+        g2.setFont(font(25));
         g2.setColor(Color.WHITE);
         String displayedStr = "TIME: " + engine.getRemainingTime();
         g2.drawString(displayedStr, 750, 50);
     }
 
     private void drawVictoryScreen(Graphics2D g2) {
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.WHITE);
         String displayedStr = "YOU WON!";
         int stringLength = g2.getFontMetrics().stringWidth(displayedStr);
@@ -202,13 +260,13 @@ public class UIManager extends JPanel{
         g2.setColor(Color.BLACK);
         g2.fillRect(0, 0, getWidth(), getHeight());
         
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.YELLOW);
         String title = "HOW TO PLAY";
         int titleWidth = g2.getFontMetrics().stringWidth(title);
         g2.drawString(title, (getWidth() - titleWidth) / 2, 80);
         
-        g2.setFont(gameFont.deriveFont(24f));
+        g2.setFont(font(24));
         g2.setColor(Color.WHITE);
         
         String[] instructions = {
@@ -238,7 +296,7 @@ public class UIManager extends JPanel{
             y += 35;
         }
         
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         g2.setColor(Color.GRAY);
         String backMsg = "Press ESC to return";
         int backWidth = g2.getFontMetrics().stringWidth(backMsg);
@@ -249,25 +307,25 @@ public class UIManager extends JPanel{
         g2.setColor(Color.BLACK);
         g2.fillRect(0, 0, getWidth(), getHeight());
         
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.YELLOW);
         String title = "ABOUT";
         int titleWidth = g2.getFontMetrics().stringWidth(title);
         g2.drawString(title, (getWidth() - titleWidth) / 2, 100);
         
-        g2.setFont(gameFont.deriveFont(30f));
+        g2.setFont(font(30));
         g2.setColor(Color.WHITE);
         String gameTitle = "Super Mario Bros.";
         int gameTitleWidth = g2.getFontMetrics().stringWidth(gameTitle);
         g2.drawString(gameTitle, (getWidth() - gameTitleWidth) / 2, 180);
         
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         g2.setColor(new Color(150, 150, 150));
         String subtitle = "Multiplayer Network Edition";
         int subtitleWidth = g2.getFontMetrics().stringWidth(subtitle);
         g2.drawString(subtitle, (getWidth() - subtitleWidth) / 2, 220);
         
-        g2.setFont(gameFont.deriveFont(24f));
+        g2.setFont(font(24));
         g2.setColor(Color.WHITE);
         
         String[] aboutText = {
@@ -292,7 +350,7 @@ public class UIManager extends JPanel{
             y += 35;
         }
         
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         g2.setColor(Color.GRAY);
         String backMsg = "Press ESC to return";
         int backWidth = g2.getFontMetrics().stringWidth(backMsg);
@@ -303,20 +361,20 @@ public class UIManager extends JPanel{
         g2.setColor(Color.BLACK);
         g2.fillRect(0, 0, getWidth(), getHeight());
         
-        g2.setFont(gameFont.deriveFont(80f));
+        g2.setFont(font(80));
         g2.setColor(Color.WHITE);
         String gameOverText = "GAME OVER";
         int textWidth = g2.getFontMetrics().stringWidth(gameOverText);
         g2.drawString(gameOverText, (getWidth() - textWidth) / 2, getHeight() / 2);
         
-        g2.setFont(gameFont.deriveFont(30f));
+        g2.setFont(font(30));
         String pressKeyText = "Press any key to exit";
         int pressKeyWidth = g2.getFontMetrics().stringWidth(pressKeyText);
         g2.drawString(pressKeyText, (getWidth() - pressKeyWidth) / 2, getHeight() / 2 + 80);
     }
 
     private void drawPauseScreen(Graphics2D g2) {
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.WHITE);
         String displayedStr = "PAUSED";
         int stringLength = g2.getFontMetrics().stringWidth(displayedStr);
@@ -324,7 +382,7 @@ public class UIManager extends JPanel{
     }
 
     private void drawAcquiredCoins(Graphics2D g2) {
-        g2.setFont(gameFont.deriveFont(30f));
+        g2.setFont(font(30));
         g2.setColor(Color.WHITE);
         String displayedStr = "" + engine.getCoins();
         g2.drawImage(coinIcon, getWidth()-115, 10, null);
@@ -332,7 +390,7 @@ public class UIManager extends JPanel{
     }
 
     private void drawRemainingLives(Graphics2D g2) {
-        g2.setFont(gameFont.deriveFont(30f));
+        g2.setFont(font(30));
         g2.setColor(Color.WHITE);
         String displayedStr = "" + engine.getRemainingLives();
         g2.drawImage(heartIcon, 50, 10, null);
@@ -340,7 +398,7 @@ public class UIManager extends JPanel{
     }
 
     private void drawPoints(Graphics2D g2){
-        g2.setFont(gameFont.deriveFont(25f));
+        g2.setFont(font(25));
         g2.setColor(Color.WHITE);
         String displayedStr = "Points: " + engine.getScore();
         g2.drawString(displayedStr, 300, 50);
@@ -350,13 +408,13 @@ public class UIManager extends JPanel{
         int row = engine.getStartScreenSelection().getLineNumber();
         g2.drawImage(startScreenImage, 0, 0, null);
 
-        g2.setFont(gameFont.deriveFont(16f));
+        g2.setFont(font(16));
         g2.setColor(new Color(200, 200, 200));
         String credit = "Hansung Univ CS/AI Kim Minsang";
         int creditWidth = g2.getFontMetrics().stringWidth(credit);
         g2.drawString(credit, (getWidth() - creditWidth) / 2, 390);
 
-        g2.setFont(gameFont.deriveFont(30f));
+        g2.setFont(font(30));
         g2.setColor(Color.WHITE);
 
         String[] menuItems = {
@@ -378,7 +436,7 @@ public class UIManager extends JPanel{
     }
 
     private void drawMapSelectionScreen(Graphics2D g2){
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.WHITE);
         mapSelection.draw(g2);
         int row = engine.getSelectedMap();
@@ -407,7 +465,7 @@ public class UIManager extends JPanel{
         g2.setColor(Color.BLACK);
         g2.fillRect(0, 0, getWidth(), getHeight());
 
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.YELLOW);
         String title = "GAME ROOM";
         int titleWidth = g2.getFontMetrics().stringWidth(title);
@@ -417,13 +475,13 @@ public class UIManager extends JPanel{
         boolean isReady = engine.isPlayerReady();
         int playerCount = engine.getRoomPlayerCount();
 
-        g2.setFont(gameFont.deriveFont(35f));
+        g2.setFont(font(35));
         g2.setColor(Color.CYAN);
-        String playerInfo = String.format("Players: %d / 4", playerCount);
+        String playerInfo = String.format("Players: %d / %d", playerCount, MapManager.MAX_PLAYERS);
         int playerInfoWidth = g2.getFontMetrics().stringWidth(playerInfo);
         g2.drawString(playerInfo, (getWidth() - playerInfoWidth) / 2, 180);
 
-        g2.setFont(gameFont.deriveFont(25f));
+        g2.setFont(font(25));
         if (isHost) {
             g2.setColor(Color.ORANGE);
             String roleInfo = "You are the HOST";
@@ -436,7 +494,7 @@ public class UIManager extends JPanel{
             g2.drawString(roleInfo, (getWidth() - roleInfoWidth) / 2, 240);
         }
         
-        g2.setFont(gameFont.deriveFont(30f));
+        g2.setFont(font(30));
         if (isReady) {
             g2.setColor(Color.GREEN);
             String readyText = "READY!";
@@ -449,13 +507,13 @@ public class UIManager extends JPanel{
             g2.drawString(notReadyText, (getWidth() - notReadyWidth) / 2, 320);
         }
         
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         g2.setColor(Color.GRAY);
         String instruction = "Press SPACE to toggle READY";
         int instructionWidth = g2.getFontMetrics().stringWidth(instruction);
         g2.drawString(instruction, (getWidth() - instructionWidth) / 2, 380);
 
-        g2.setFont(gameFont.deriveFont(22f));
+        g2.setFont(font(22));
         g2.setColor(Color.LIGHT_GRAY);
         
         if (isHost) {
@@ -474,7 +532,7 @@ public class UIManager extends JPanel{
                 g2.drawString(instructions[i], (getWidth() - textWidth) / 2, startY + i * 35);
             }
             
-            g2.setFont(gameFont.deriveFont(28f));
+            g2.setFont(font(28));
             g2.setColor(Color.GREEN);
             String startMsg = "Press SPACE to start game";
             int startWidth = g2.getFontMetrics().stringWidth(startMsg);
@@ -494,7 +552,7 @@ public class UIManager extends JPanel{
             }
         }
 
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         g2.setColor(Color.GRAY);
         String backMsg = "ESC to return to menu";
         int backWidth = g2.getFontMetrics().stringWidth(backMsg);
@@ -506,7 +564,7 @@ public class UIManager extends JPanel{
         g2.setColor(Color.BLACK);
         g2.fillRect(0, 0, getWidth(), getHeight());
         
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.YELLOW);
         String title = "SELECT STAGE";
         int titleWidth = g2.getFontMetrics().stringWidth(title);
@@ -514,7 +572,7 @@ public class UIManager extends JPanel{
         
         int selectedStage = engine.getSelectedStage();
         
-        g2.setFont(gameFont.deriveFont(40f));
+        g2.setFont(font(40));
         
         String[] stages = {"STAGE 1", "STAGE 2"};
         int startY = 250;
@@ -536,7 +594,7 @@ public class UIManager extends JPanel{
             }
         }
         
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         g2.setColor(Color.GRAY);
         
         String[] instructions = {
@@ -552,18 +610,36 @@ public class UIManager extends JPanel{
         }
     }
     
+    // 에셋 로딩 화면: 진행률 막대 (게임 폰트/이미지 없이 그림)
+    private void drawLoadingScreen(Graphics2D g2) {
+        g2.setColor(Color.BLACK);
+        g2.fillRect(0, 0, getWidth(), getHeight());
+
+        g2.setFont(LOADING_FONT);
+        g2.setColor(Color.WHITE);
+        String title = "LOADING...";
+        int titleWidth = g2.getFontMetrics().stringWidth(title);
+        g2.drawString(title, (getWidth() - titleWidth) / 2, getHeight() / 2 - 30);
+
+        int barWidth = 400, barHeight = 20;
+        int barX = (getWidth() - barWidth) / 2;
+        int barY = getHeight() / 2;
+        g2.drawRect(barX, barY, barWidth, barHeight);
+        g2.fillRect(barX, barY, (int) (barWidth * engine.getLoadingProgress()), barHeight);
+    }
+
     // 서버 접속 중 화면 렌더링
     private void drawConnectingScreen(Graphics2D g2) {
         g2.setColor(Color.BLACK);
         g2.fillRect(0, 0, getWidth(), getHeight());
         
-        g2.setFont(gameFont.deriveFont(50f));
+        g2.setFont(font(50));
         g2.setColor(Color.YELLOW);
         String title = "JOIN ROOM";
         int titleWidth = g2.getFontMetrics().stringWidth(title);
         g2.drawString(title, (getWidth() - titleWidth) / 2, 150);
         
-        g2.setFont(gameFont.deriveFont(30f));
+        g2.setFont(font(30));
         g2.setColor(Color.WHITE);
         
         String[] messages = {
@@ -585,7 +661,7 @@ public class UIManager extends JPanel{
             g2.drawString(messages[i], (getWidth() - textWidth) / 2, startY + i * 40);
         }
         
-        g2.setFont(gameFont.deriveFont(20f));
+        g2.setFont(font(20));
         g2.setColor(Color.GRAY);
         String backMsg = "ESC to return to menu";
         int backWidth = g2.getFontMetrics().stringWidth(backMsg);
@@ -613,57 +689,35 @@ public class UIManager extends JPanel{
         g2.setComposite(originalComposite);
     }
     
-    // 플레이어 위에 라벨 표시
+    // 플레이어 위에 라벨 표시 (외곽선 포함 이미지 캐시 사용)
     private void drawPlayerLabel(Graphics2D g2, model.hero.Mario player, String label) {
-        g2.setFont(gameFont.deriveFont(12f));
-        g2.setColor(Color.WHITE);
-        
         int x = (int) player.getX();
         int y = (int) player.getY() - 10;
-        
-        g2.setColor(Color.BLACK);
-        g2.drawString(label, x - 1, y);
-        g2.drawString(label, x + 1, y);
-        g2.drawString(label, x, y - 1);
-        g2.drawString(label, x, y + 1);
-        
-        g2.setColor(Color.WHITE);
-        g2.drawString(label, x, y);
+        otherPlayerLabelGlyphs.drawLabel(g2, label, Color.WHITE, true, x, y);
     }
     
-    // 서버로부터 받은 GameStateMessage 기반 게임 화면 렌더링
-    private void drawGameFromState(Graphics2D g2) {
-        System.out.println("[UI] drawGameFromState() called");
-        network.protocol.GameStateMessage gameState = engine.getNetworkManager().getLatestGameState();
-        System.out.println("[UI] GameState from network: " + (gameState != null ? "EXISTS" : "NULL"));
-        
+    // 서버로부터 받은 GameStateMessage 기반 게임 화면 렌더링 (매 프레임 호출되므로 로그 출력 없음)
+    public void drawGameFromState(Graphics2D g2, network.protocol.GameStateMessage gameState, int myPlayerId) {
         if (gameState == null) {
-            System.out.println("[UI] GameState is null, showing waiting message");
             g2.setColor(Color.BLACK);
             g2.fillRect(0, 0, getWidth(), getHeight());
             g2.setColor(Color.WHITE);
-            g2.setFont(gameFont.deriveFont(30f));
+            g2.setFont(font(30));
             String msg = "서버로부터 게임 상태를 받는 중...";
             int msgWidth = g2.getFontMetrics().stringWidth(msg);
             g2.drawString(msg, (getWidth() - msgWidth) / 2, getHeight() / 2);
             return;
         }
         
-        int myPlayerId = engine.getMyPlayerId();
-        System.out.println("[UI] ===== CAMERA DEBUG =====");
-        System.out.println("[UI] My Player ID: " + myPlayerId);
         network.protocol.GameStateMessage.PlayerState myPlayer = gameState.getPlayer(myPlayerId);
         
         if (myPlayer == null) {
-            System.out.println("[UI] WARNING: myPlayer is NULL for ID " + myPlayerId);
             g2.setColor(Color.BLACK);
             g2.fillRect(0, 0, getWidth(), getHeight());
             return;
         }
         
-        System.out.println("[UI] My Player position: x=" + myPlayer.x + ", y=" + myPlayer.y);
         int cameraX = myPlayer.x - getWidth() / 2;
-        System.out.println("[UI] Camera X: " + cameraX);
         int cameraY = 0;
         if (cameraX < 0) cameraX = 0;
         
@@ -684,7 +738,7 @@ public class UIManager extends JPanel{
             
             // 배경 이미지 로드 및 그리기 (지상만)
             if (mapBackgroundImage == null) {
-                mapBackgroundImage = engine.getImageLoader().loadImage("/background.png");
+                mapBackgroundImage = imageLoader.loadImage("/background.png");
             }
             if (mapBackgroundImage != null) {
                 g2.drawImage(mapBackgroundImage, 0, 0, null);
@@ -706,15 +760,13 @@ public class UIManager extends JPanel{
         network.protocol.GameStateMessage.PlayerState[] players = gameState.getPlayers();
         if (players == null) return;
 
-        ImageLoader loader = engine.getImageLoader();
-
         for (int i = 1; i < players.length; i++) {
             network.protocol.GameStateMessage.PlayerState player = players[i];
             if (player == null) continue;
 
             Animation animation = playerAnimations.get(i);
             if (animation == null) {
-                animation = new Animation(loader.getLeftFrames(0), loader.getRightFrames(0));
+                animation = new Animation(imageLoader.getMarioFrames(0));
                 playerAnimations.put(i, animation);
             }
 
@@ -746,22 +798,27 @@ public class UIManager extends JPanel{
                 g2.fillRect(player.x, player.y, 48, 48);
             }
             
-            g2.setFont(gameFont.deriveFont(Font.BOLD, 14f));
-            String playerLabel = "P" + i;
-            int labelWidth = g2.getFontMetrics().stringWidth(playerLabel);
+            BufferedImage label = getPlayerLabel(i, i == myPlayerId);
+            int labelWidth = label.getWidth() - 2;
             int labelX = player.x + (48 - labelWidth) / 2;
             int labelY = player.y - 5;
-            
-            g2.setColor(Color.BLACK);
-            g2.drawString(playerLabel, labelX - 1, labelY - 1);
-            g2.drawString(playerLabel, labelX + 1, labelY - 1);
-            g2.drawString(playerLabel, labelX - 1, labelY + 1);
-            g2.drawString(playerLabel, labelX + 1, labelY + 1);
-            
-            Color labelColor = (i == myPlayerId) ? Color.YELLOW : Color.WHITE;
-            g2.setColor(labelColor);
-            g2.drawString(playerLabel, labelX, labelY);
+            g2.drawImage(label, labelX - 1, labelY - playerLabelGlyphs.getAscent() - 1, null);
+        }
+    }
+
+    // "P1".."Pn" 외곽선 라벨 이미지 (플레이어별로 한 번만 렌더링)
+    private BufferedImage getPlayerLabel(int playerId, boolean isMe) {
+        if (playerId >= playerLabels.length) {
+            playerLabels = java.util.Arrays.copyOf(playerLabels, playerId + 1);
+        }
+        if (playerLabels[playerId] == null) {
+            String text = "P" + playerId;
+            playerLabels[playerId] = new BufferedImage[] {
+                playerLabelGlyphs.getLabel(text, Color.WHITE, true),
+                playerLabelGlyphs.getLabel(text, Color.YELLOW, true)
+            };
         }
+        return playerLabels[playerId][isMe ? 1 : 0];
     }
     
     // 적들 렌더링 (GameStateMessage 기반)
@@ -769,18 +826,16 @@ public class UIManager extends JPanel{
         network.protocol.GameStateMessage.EnemyState[] enemies = gameState.getEnemies();
         if (enemies == null) return;
         
-        ImageLoader loader = engine.getImageLoader();
-        
         for (network.protocol.GameStateMessage.EnemyState enemy : enemies) {
             if (enemy == null || !enemy.alive) continue;
             
             BufferedImage enemyImage = null;
             if (enemy.type != null && enemy.type.contains("Goomba")) {
                 int col = enemy.direction ? 5 : 2;
-                enemyImage = loader.getSubImage(spriteSheet, col, 4, 48, 48);
+                enemyImage = imageLoader.getSubImage(spriteSheet, col, 4, 48, 48);
             } else if (enemy.type != null && enemy.type.contains("KoopaTroopa")) {
                 int col = enemy.direction ? 4 : 1;
-                enemyImage = loader.getSubImage(spriteSheet, col, 3, 48, 64);
+                enemyImage = imageLoader.getSubImage(spriteSheet, col, 3, 48, 64);
             }
             
             if (enemyImage != null) {
@@ -797,12 +852,10 @@ public class UIManager extends JPanel{
         network.protocol.GameStateMessage.ItemState[] items = gameState.getItems();
         if (items == null) return;
         
-        ImageLoader loader = engine.getImageLoader();
-        
         for (network.protocol.GameStateMessage.ItemState item : items) {
             if (item == null || item.collected) continue;
             
-            BufferedImage itemImage = loader.getSubImage(spriteSheet, 1, 5, 48, 48);
+            BufferedImage itemImage = imageLoader.getSubImage(spriteSheet, 1, 5, 48, 48);
             
             if (itemImage != null) {
                 g2.drawImage(itemImage, item.x, item.y, null);
@@ -820,8 +873,6 @@ public class UIManager extends JPanel{
             return;
         }
 
-        ImageLoader loader = engine.getImageLoader();
-        
         // 맵 이름 확인 (지하 레벨인지 체크)
         String mapName = (gameState.getGameInfo() != null && gameState.getGameInfo().mapName != null) 
                          ? gameState.getGameInfo().mapName : "Map 1.png";
@@ -833,23 +884,23 @@ public class UIManager extends JPanel{
             BufferedImage brickImage = null;
 
             if ("OrdinaryBrick".equals(brick.type)) {
-                brickImage = loader.getSubImage(spriteSheet, 1, 1, 48, 48);
+                brickImage = imageLoader.getSubImage(spriteSheet, 1, 1, 48, 48);
             } else if ("SurpriseBrick".equals(brick.type)) {
                 if (brick.empty) {
-                    brickImage = loader.getSubImage(spriteSheet, 2, 3, 48, 48);
+                    brickImage = imageLoader.getSubImage(spriteSheet, 2, 3, 48, 48);
                 } else {
-                    brickImage = loader.getSubImage(spriteSheet, 2, 1, 48, 48);
+                    brickImage = imageLoader.getSubImage(spriteSheet, 2, 1, 48, 48);
                 }
             } else if ("GroundBrick".equals(brick.type)) {
                 // groundBrick (빨간색): 원래 GroundBrick 스프라이트
                 // groundBrick2 (갈색): Map 2에서만 OrdinaryBrick 스프라이트
                 if (isUnderground) {
-                    brickImage = loader.getSubImage(spriteSheet, 1, 1, 48, 48); // Map 2: OrdinaryBrick 스프라이트
+                    brickImage = imageLoader.getSubImage(spriteSheet, 1, 1, 48, 48); // Map 2: OrdinaryBrick 스프라이트
                 } else {
-                    brickImage = loader.getSubImage(spriteSheet, 2, 2, 48, 48); // Map 1: GroundBrick 스프라이트
+                    brickImage = imageLoader.getSubImage(spriteSheet, 2, 2, 48, 48); // Map 1: GroundBrick 스프라이트
                 }
             } else if ("Pipe".equals(brick.type)) {
-                brickImage = loader.getSubImage(spriteSheet, 3, 1, 96, 96);
+                brickImage = imageLoader.getSubImage(spriteSheet, 3, 1, 96, 96);
             }
 
             if (brickImage != null) {
@@ -858,89 +909,9 @@ public class UIManager extends JPanel{
         }
     }
     
-    // HUD 렌더링: 점수, 생명, 코인, 시간, 리더보드
+    // HUD 렌더링: 점수, 생명, 코인, 시간, 리더보드 (값이 바뀔 때만 오버레이 이미지 갱신)
     private void drawHUDFromState(Graphics2D g2, network.protocol.GameStateMessage.PlayerState player,
                                    network.protocol.GameStateMessage gameState) {
-        g2.setFont(gameFont.deriveFont(25f));
-        g2.setColor(Color.WHITE);
-        
-        g2.drawString("POINTS: " + player.points, 300, 50);
-        
-        if (heartIcon != null) {
-            g2.drawImage(heartIcon, 40, 30, 32, 32, null);
-        }
-        g2.drawString("x " + player.lives, 80, 55);
-        
-        if (coinIcon != null) {
-            g2.drawImage(coinIcon, 40, 70, 24, 24, null);
-        }
-        g2.drawString("x " + player.coins, 80, 90);
-        
-        network.protocol.GameStateMessage.GameInfo info = gameState.getGameInfo();
-        if (info != null) {
-            g2.drawString("TIME: " + info.remainingTime, 750, 50);
-        }
-        
-        drawLeaderboard(g2, gameState);
-    }
-    
-    // 실시간 리더보드 렌더링 (우측 상단)
-    private void drawLeaderboard(Graphics2D g2, network.protocol.GameStateMessage gameState) {
-        if (gameState == null) return;
-        
-        class PlayerEntry {
-            int id;
-            network.protocol.GameStateMessage.PlayerState state;
-            PlayerEntry(int id, network.protocol.GameStateMessage.PlayerState state) {
-                this.id = id;
-                this.state = state;
-            }
-        }
-        
-        java.util.List<PlayerEntry> players = new java.util.ArrayList<>();
-        for (int i = 1; i <= 4; i++) {
-            network.protocol.GameStateMessage.PlayerState player = gameState.getPlayer(i);
-            if (player != null && player.lives > 0) {
-                players.add(new PlayerEntry(i, player));
-            }
-        }
-        
-        if (players.isEmpty()) return;
-        
-        players.sort((a, b) -> Integer.compare(b.state.points, a.state.points));
-        
-        int x = 950;
-        int y = 100;
-        int lineHeight = 30;
-        int padding = 15;
-        int boxWidth = 280;
-        int boxHeight = players.size() * lineHeight + padding * 2 + 10;
-        
-        g2.setColor(new Color(0, 0, 0, 180));
-        g2.fillRoundRect(x - padding, y - padding, boxWidth, boxHeight, 10, 10);
-        
-        g2.setColor(new Color(255, 215, 0));
-        g2.setFont(gameFont.deriveFont(Font.BOLD, 20f));
-        g2.drawString("LEADERBOARD", x, y);
-        y += 35;
-        
-        g2.setFont(gameFont.deriveFont(18f));
-        for (int i = 0; i < players.size(); i++) {
-            PlayerEntry entry = players.get(i);
-            
-            if (i == 0) {
-                g2.setColor(new Color(255, 215, 0));
-            } else if (i == 1) {
-                g2.setColor(new Color(192, 192, 192));
-            } else if (i == 2) {
-                g2.setColor(new Color(205, 127, 50));
-            } else {
-                g2.setColor(Color.WHITE);
-            }
-            
-            String text = String.format("%d. P%d: %d pts", i + 1, entry.id, entry.state.points);
-            g2.drawString(text, x, y);
-            y += lineHeight;
-        }
+        hudOverlay.draw(g2, player, gameState);
     }
 }